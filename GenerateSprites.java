@@ -1,51 +1,142 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
 import javax.imageio.ImageIO;
 
+// Procedurally renders the fallback sprites into sprites/.
+// Each sprite is keyed by a hash of its parameters and of this generator's own bytecode; outputs whose
+// hash is unchanged (and whose file still exists) are skipped, and the rest render in parallel.
+// Pass --force to regenerate everything.
 public class GenerateSprites {
+    private static final String OUTPUT_DIR = "sprites";
+    private static final File HASH_FILE = new File(OUTPUT_DIR, ".generated");
+    
+    private static class SpriteJob {
+        final String fileName;
+        final int width;
+        final int height;
+        final BiFunction<Integer, Integer, BufferedImage> generator;
+        
+        SpriteJob(String fileName, int width, int height, BiFunction<Integer, Integer, BufferedImage> generator) {
+            this.fileName = fileName;
+            this.width = width;
+            this.height = height;
+            this.generator = generator;
+        }
+    }
+    
+    private static final SpriteJob[] JOBS = {
+        new SpriteJob("missile.png", 64, 64, GenerateSprites::createMissileSprite),
+        new SpriteJob("plane.png", 128, 128, GenerateSprites::createPlaneSprite),
+        new SpriteJob("helicopter.png", 128, 128, GenerateSprites::createHelicopterSprite),
+        new SpriteJob("missile_shadow.png", 64, 64, GenerateSprites::createMissileShadow),
+        new SpriteJob("plane_shadow.png", 128, 128, GenerateSprites::createPlaneShadow),
+        new SpriteJob("helicopter_shadow.png", 128, 128, GenerateSprites::createHelicopterShadow)
+    };
+    
     public static void main(String[] args) {
+        boolean force = args.length > 0 && args[0].equals("--force");
+        long start = System.nanoTime();
         try {
             // Create sprites directory if it doesn't exist
-            File spritesDir = new File("sprites");
+            File spritesDir = new File(OUTPUT_DIR);
             if (!spritesDir.exists()) {
                 spritesDir.mkdir();
             }
             
-            // Generate missile sprite (64x64)
-            BufferedImage missile = createMissileSprite(64, 64);
-            ImageIO.write(missile, "PNG", new File("sprites/missile.png"));
-            System.out.println("Created missile.png");
-            
-            // Generate fighter plane sprite (128x128)
-            BufferedImage plane = createPlaneSprite(128, 128);
-            ImageIO.write(plane, "PNG", new File("sprites/plane.png"));
-            System.out.println("Created plane.png");
-            
-            // Generate helicopter sprite (128x128)
-            BufferedImage helicopter = createHelicopterSprite(128, 128);
-            ImageIO.write(helicopter, "PNG", new File("sprites/helicopter.png"));
-            System.out.println("Created helicopter.png");
+            Properties previousHashes = new Properties();
+            if (!force && HASH_FILE.isFile()) {
+                try (InputStream in = new FileInputStream(HASH_FILE)) {
+                    previousHashes.load(in);
+                }
+            }
             
-            // Generate shadow sprites
-            BufferedImage missileShadow = createMissileShadow(64, 64);
-            ImageIO.write(missileShadow, "PNG", new File("sprites/missile_shadow.png"));
-            System.out.println("Created missile_shadow.png");
+            String codeHash = hashGeneratorCode();
+            Properties hashes = new Properties();
+            List<SpriteJob> stale = new ArrayList<>();
+            for (SpriteJob job : JOBS) {
+                String hash = hash(codeHash + "|" + job.fileName + "|" + job.width + "x" + job.height);
+                hashes.setProperty(job.fileName, hash);
+                File output = new File(spritesDir, job.fileName);
+                if (!hash.equals(previousHashes.getProperty(job.fileName)) || !output.isFile()) {
+                    stale.add(job);
+                }
+            }
             
-            BufferedImage planeShadow = createPlaneShadow(128, 128);
-            ImageIO.write(planeShadow, "PNG", new File("sprites/plane_shadow.png"));
-            System.out.println("Created plane_shadow.png");
+            if (stale.isEmpty()) {
+                System.out.println(String.format("All %d sprites up to date (%.0fms)", JOBS.length, (System.nanoTime() - start) / 1_000_000.0));
+                return;
+            }
             
-            BufferedImage helicopterShadow = createHelicopterShadow(128, 128);
-            ImageIO.write(helicopterShadow, "PNG", new File("sprites/helicopter_shadow.png"));
-            System.out.println("Created helicopter_shadow.png");
+            // Each sprite renders into its own image, so they can all be generated at once
+            ExecutorService pool = Executors.newFixedThreadPool(Math.min(stale.size(), Runtime.getRuntime().availableProcessors()));
+            try {
+                List<Future<?>> pending = new ArrayList<>();
+                for (SpriteJob job : stale) {
+                    pending.add(pool.submit(() -> {
+                        BufferedImage sprite = job.generator.apply(job.width, job.height);
+                        ImageIO.write(sprite, "PNG", new File(spritesDir, job.fileName));
+                        System.out.println("Created " + job.fileName);
+                        return null;
+                    }));
+                }
+                for (Future<?> future : pending) {
+                    future.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
             
-            System.out.println("\nAll sprites generated successfully!");
+            // Only record hashes once every output was written
+            try (FileOutputStream out = new FileOutputStream(HASH_FILE)) {
+                hashes.store(out, "GenerateSprites input hashes - delete to force a rebuild");
+            }
+            System.out.println(String.format("\nGenerated %d of %d sprites in %.0fms", stale.size(), JOBS.length, (System.nanoTime() - start) / 1_000_000.0));
             
-        } catch (IOException e) {
+        } catch (IOException | ExecutionException e) {
             System.err.println("Error generating sprites: " + e.getMessage());
             e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // Any edit to a generator changes the compiled class, which invalidates every output
+    private static String hashGeneratorCode() throws IOException {
+        try (InputStream in = GenerateSprites.class.getResourceAsStream("GenerateSprites.class")) {
+            if (in == null) return "unknown";
+            return hash(in.readAllBytes());
+        }
+    }
+    
+    private static String hash(String input) {
+        return hash(input.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String hash(byte[] input) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(input)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
         }
     }
     
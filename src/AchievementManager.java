@@ -1,18 +1,48 @@
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+// Achievements are indexed by type, each type's achievements sorted by target. Every achievement
+// of a type tracks the same counter, so progress events only touch that counter; they are queued
+// during the frame and evaluated once in evaluate(), where a binary search finds which targets the
+// counter has passed. Progress of locked achievements is copied out lazily when someone reads it
+// (save/menus), so gameplay never walks the achievement list.
 public class AchievementManager {
+    // All achievements of one type, plus that type's counter and this frame's pending events
+    private static class TypeIndex {
+        Achievement[] byTarget = new Achievement[0]; // Ascending target
+        int value; // Shared progress counter
+        int firstLocked; // Everything before this index is unlocked
+        int pendingIncrement;
+        int pendingValue;
+        boolean hasPendingValue;
+        boolean dirty;
+    }
+    
     private List<Achievement> achievements;
     private Map<String, Achievement> achievementMap;
     private List<Achievement> recentlyUnlocked;
+    private final EnumMap<Achievement.AchievementType, TypeIndex> byType = new EnumMap<>(Achievement.AchievementType.class);
+    private final TypeIndex[] dirtyTypes = new TypeIndex[Achievement.AchievementType.values().length];
+    private int dirtyCount;
     
     public AchievementManager() {
         achievements = new ArrayList<>();
         achievementMap = new HashMap<>();
         recentlyUnlocked = new ArrayList<>();
+        for (Achievement.AchievementType type : Achievement.AchievementType.values()) {
+            byType.put(type, new TypeIndex());
+        }
         initializeAchievements();
+        
+        // Sort each type by target once all achievements are registered
+        for (TypeIndex index : byType.values()) {
+            Arrays.sort(index.byTarget, Comparator.comparingInt(Achievement::getTarget));
+        }
     }
     
     private void initializeAchievements() {
@@ -52,29 +82,69 @@ public class AchievementManager {
         Achievement achievement = new Achievement(id, name, description, type, target);
         achievements.add(achievement);
         achievementMap.put(id, achievement);
+        TypeIndex index = byType.get(type);
+        index.byTarget = Arrays.copyOf(index.byTarget, index.byTarget.length + 1);
+        index.byTarget[index.byTarget.length - 1] = achievement;
     }
     
+    // Queue "the counter for this type is now value" (the last value this frame wins)
     public void updateProgress(Achievement.AchievementType type, int value) {
-        for (Achievement achievement : achievements) {
-            if (achievement.getType() == type && !achievement.isUnlocked()) {
-                int oldProgress = achievement.getProgress();
-                achievement.setProgress(value);
-                if (achievement.isUnlocked() && oldProgress < achievement.getTarget()) {
-                    recentlyUnlocked.add(achievement);
-                }
-            }
-        }
+        TypeIndex index = byType.get(type);
+        index.pendingValue = value;
+        index.hasPendingValue = true;
+        markDirty(index);
     }
     
+    // Queue "add amount to the counter for this type"
     public void incrementProgress(Achievement.AchievementType type, int amount) {
-        for (Achievement achievement : achievements) {
-            if (achievement.getType() == type && !achievement.isUnlocked()) {
-                int oldProgress = achievement.getProgress();
-                achievement.addProgress(amount);
-                if (achievement.isUnlocked() && oldProgress < achievement.getTarget()) {
+        TypeIndex index = byType.get(type);
+        index.pendingIncrement += amount;
+        markDirty(index);
+    }
+    
+    // Apply this frame's queued events; newly unlocked achievements are added to the recently unlocked list.
+    // Returns true if anything unlocked.
+    public boolean evaluate() {
+        if (dirtyCount == 0) return false;
+        int unlockedBefore = recentlyUnlocked.size();
+        for (int i = 0; i < dirtyCount; i++) {
+            TypeIndex index = dirtyTypes[i];
+            if (index.hasPendingValue) {
+                index.value = index.pendingValue;
+            }
+            index.value += index.pendingIncrement;
+            index.pendingIncrement = 0;
+            index.hasPendingValue = false;
+            index.dirty = false;
+            dirtyTypes[i] = null;
+            
+            // Everything in [firstLocked, reached) has a target the counter has now passed
+            int reached = upperBound(index.byTarget, index.value);
+            for (int j = index.firstLocked; j < reached; j++) {
+                Achievement achievement = index.byTarget[j];
+                if (!achievement.isUnlocked()) {
+                    achievement.unlock();
                     recentlyUnlocked.add(achievement);
                 }
             }
+            index.firstLocked = Math.max(index.firstLocked, reached);
+        }
+        dirtyCount = 0;
+        return recentlyUnlocked.size() > unlockedBefore;
+    }
+    
+    // Restore one achievement from a save without announcing it
+    public void restore(String id, int progress, boolean unlocked) {
+        Achievement achievement = achievementMap.get(id);
+        if (achievement == null) return; // Removed since the save was written
+        TypeIndex index = byType.get(achievement.getType());
+        if (unlocked) {
+            achievement.unlock();
+        } else {
+            index.value = Math.max(index.value, progress);
+        }
+        while (index.firstLocked < index.byTarget.length && index.byTarget[index.firstLocked].isUnlocked()) {
+            index.firstLocked++;
         }
     }
     
@@ -87,6 +157,9 @@ public class AchievementManager {
     }
     
     public List<Achievement> getAllAchievements() {
+        for (TypeIndex index : byType.values()) {
+            syncProgress(index);
+        }
         return achievements;
     }
     
@@ -99,6 +172,42 @@ public class AchievementManager {
     }
     
     public Achievement getAchievement(String id) {
-        return achievementMap.get(id);
+        Achievement achievement = achievementMap.get(id);
+        if (achievement != null) {
+            syncProgress(byType.get(achievement.getType()));
+        }
+        return achievement;
+    }
+    
+    private void markDirty(TypeIndex index) {
+        if (!index.dirty) {
+            index.dirty = true;
+            dirtyTypes[dirtyCount++] = index;
+        }
+    }
+    
+    // Copy the shared counter into the locked achievements (all of them are below their target)
+    private void syncProgress(TypeIndex index) {
+        for (int i = index.firstLocked; i < index.byTarget.length; i++) {
+            Achievement achievement = index.byTarget[i];
+            if (!achievement.isUnlocked()) {
+                achievement.setProgress(Math.min(index.value, achievement.getTarget() - 1));
+            }
+        }
+    }
+    
+    // Index of the first achievement whose target is above value
+    private static int upperBound(Achievement[] byTarget, int value) {
+        int low = 0;
+        int high = byTarget.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byTarget[mid].getTarget() <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 }
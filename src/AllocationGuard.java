@@ -0,0 +1,55 @@
+import java.io.IOException;
+import java.nio.file.Files;
+
+// Headless allocation regression check.
+// Plays a level for a few seconds without a window and fails (exit code 1) if steady-state
+// gameplay allocates more than the per-frame budget in either the update or the render phase.
+// The boss's rolls are seeded with the level number, so every run fights the same moves, patterns
+// and bullet spreads and the figures repeat from run to run.
+// The render budget is larger because the headless software pipeline allocates its own
+// antialiasing tile buffers inside Java2D; game code should stay well under both.
+// Saves and the run journal go to a fresh temp directory, so the check runs on default settings
+// and never touches the player's own save.
+//
+// Usage: java -Djava.awt.headless=true -cp src AllocationGuard [updateBudgetKB] [renderBudgetKB] [level]
+public class AllocationGuard {
+    private static final int DEFAULT_UPDATE_BUDGET_KB = 64;
+    private static final int DEFAULT_RENDER_BUDGET_KB = 560; // Measured 531-536 KB/frame on default settings, plus about 5%
+    private static final int DEFAULT_LEVEL = 10; // Mega boss - the heaviest bullet load
+    private static final int WARMUP_FRAMES = 300; // Let the JIT settle and the pools fill
+    private static final int MEASURED_FRAMES = 900; // Long enough to average over several boss patterns
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        try {
+            System.setProperty("onehitman.saveDir", Files.createTempDirectory("onehitman-guard").toString());
+        } catch (IOException e) {
+            System.err.println("AllocationGuard: could not create a temp save directory: " + e.getMessage());
+            System.exit(2);
+        }
+
+        int updateBudgetKB = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_UPDATE_BUDGET_KB;
+        int renderBudgetKB = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RENDER_BUDGET_KB;
+        int level = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_LEVEL;
+
+        if (!AllocationTracker.isSupported()) {
+            System.err.println("AllocationGuard: this JVM does not support thread allocation accounting");
+            System.exit(2);
+        }
+
+        Game game = new Game();
+        double[] perFrame = game.measureSteadyStateAllocation(level, WARMUP_FRAMES, MEASURED_FRAMES);
+        double updateKB = perFrame[0] / 1024.0;
+        double renderKB = perFrame[1] / 1024.0;
+
+        System.out.println(String.format("Level %d steady state: update %.1f KB/frame (budget %d), render %.1f KB/frame (budget %d)",
+            level, updateKB, updateBudgetKB, renderKB, renderBudgetKB));
+
+        if (perFrame[0] < 0 || updateKB > updateBudgetKB || renderKB > renderBudgetKB) {
+            System.err.println("AllocationGuard: FAILED - per-frame allocation is over budget");
+            System.exit(1);
+        }
+        System.out.println("AllocationGuard: OK");
+        System.exit(0);
+    }
+}
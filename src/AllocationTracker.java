@@ -0,0 +1,78 @@
+import java.lang.management.ManagementFactory;
+
+// Attributes heap allocation to the update and render phases using the per-thread
+// allocation counter from com.sun.management.ThreadMXBean. Only active while the
+// profiler is enabled (F4); otherwise every call is a static boolean check.
+public class AllocationTracker {
+    private static final com.sun.management.ThreadMXBean THREADS;
+    private static final boolean SUPPORTED;
+
+    static {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        boolean supported = false;
+        com.sun.management.ThreadMXBean sunBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            sunBean = (com.sun.management.ThreadMXBean) bean;
+            try {
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                    supported = sunBean.isThreadAllocatedMemoryEnabled();
+                }
+            } catch (UnsupportedOperationException e) {
+                System.err.println("Thread allocation accounting unavailable: " + e.getMessage());
+            }
+        }
+        THREADS = sunBean;
+        SUPPORTED = supported;
+    }
+
+    private static final double SMOOTHING = 0.05; // Exponential moving average weight per frame
+
+    private static long updateStartBytes;
+    private static long renderStartBytes;
+    private static volatile double updateBytesPerFrame;
+    private static volatile double renderBytesPerFrame;
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    // Bytes allocated so far by the calling thread, or -1 if the JVM can't tell us
+    public static long currentThreadAllocatedBytes() {
+        return SUPPORTED ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    public static void beginUpdate() {
+        if (SUPPORTED && FrameProfiler.enabled) {
+            updateStartBytes = THREADS.getCurrentThreadAllocatedBytes();
+        }
+    }
+
+    public static void endUpdate() {
+        if (SUPPORTED && FrameProfiler.enabled && updateStartBytes != 0) {
+            long bytes = THREADS.getCurrentThreadAllocatedBytes() - updateStartBytes;
+            updateBytesPerFrame += (bytes - updateBytesPerFrame) * SMOOTHING;
+        }
+    }
+
+    public static void beginRender() {
+        if (SUPPORTED && FrameProfiler.enabled) {
+            renderStartBytes = THREADS.getCurrentThreadAllocatedBytes();
+        }
+    }
+
+    public static void endRender() {
+        if (SUPPORTED && FrameProfiler.enabled && renderStartBytes != 0) {
+            long bytes = THREADS.getCurrentThreadAllocatedBytes() - renderStartBytes;
+            renderBytesPerFrame += (bytes - renderBytesPerFrame) * SMOOTHING;
+        }
+    }
+
+    public static double getUpdateBytesPerFrame() {
+        return updateBytesPerFrame;
+    }
+
+    public static double getRenderBytesPerFrame() {
+        return renderBytesPerFrame;
+    }
+}
@@ -0,0 +1,76 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+// Decodes startup assets on a bounded worker pool and reports progress per finished asset.
+// Each queued task decodes one asset and stores it wherever its owner keeps it; awaitAll()
+// returns once everything is done, which also publishes those stores to the caller.
+public class AssetLoader {
+    private final ExecutorService pool;
+    private final List<Future<?>> pending = new ArrayList<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final DoubleConsumer onProgress; // Receives 0..1 after each finished asset
+
+    public AssetLoader(DoubleConsumer onProgress) {
+        this.onProgress = onProgress;
+        int threads = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "AssetLoader-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Queue one asset; the task should decode it and store the result
+    public void submit(String name, Runnable task) {
+        total.incrementAndGet();
+        pending.add(pool.submit(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Failed to load asset " + name + ": " + e.getMessage());
+                e.printStackTrace();
+            } finally {
+                completed.incrementAndGet();
+                if (onProgress != null) {
+                    onProgress.accept(getProgress());
+                }
+            }
+        }));
+    }
+
+    // Block until every queued asset has finished, then release the worker threads
+    public void awaitAll() {
+        try {
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public double getProgress() {
+        int queued = total.get();
+        return queued == 0 ? 1.0 : completed.get() / (double)queued;
+    }
+}
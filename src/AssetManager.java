@@ -0,0 +1,201 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+// Single place every sprite and background is loaded through.
+// Assets are addressed by logical id - the path under sprites/ without the extension, e.g.
+// "Missle Man Assets/Projectiles/Bomb 1" - and resolved from the asset pack, then the sprites
+// folder (from the project root or from src/), then the classpath. Each distinct asset is decoded
+// once and shared; callers acquire and release it, and the decoded size is tallied per group so
+// the profiler overlay can show where the heap goes. Released assets are dropped once unreferenced.
+public class AssetManager {
+    public enum Group {
+        PLAYER("Player"),
+        BULLETS("Bullets"),
+        BOSSES("Bosses"),
+        BACKGROUNDS("Backgrounds"),
+        UI("UI");
+
+        private final String label;
+
+        Group(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final String[] ROOTS = {"sprites/", "../sprites/"};
+    private static final String EXTENSION = ".png";
+
+    private static class Entry {
+        final String key;
+        final Group group;
+        Object asset; // BufferedImage or MipChain, null until loaded (or if missing)
+        long bytes;
+        int references;
+
+        Entry(String key, Group group) {
+            this.key = key;
+            this.group = group;
+        }
+    }
+
+    private static final Object lock = new Object();
+    private static final Map<String, Entry> entries = new HashMap<>(); // Guarded by lock
+    private static final Map<Object, Entry> byAsset = new IdentityHashMap<>(); // Guarded by lock
+    private static final long[] groupBytes = new long[Group.values().length]; // Guarded by lock
+
+    // Shared full-resolution image, or null if the asset can't be found
+    public static BufferedImage acquireImage(Group group, String id) {
+        return (BufferedImage) acquire(group, id, () -> decode(id));
+    }
+
+    // Shared mip chain for a sprite drawn no larger than maxDrawSize (optionally rotated 180 degrees).
+    // The full-resolution image is only held while the chain is built.
+    public static MipChain acquireMipChain(Group group, String id, int maxDrawSize, boolean rotated) {
+        String key = id + (rotated ? AssetPack.ROTATED_SUFFIX : "") + "@" + maxDrawSize;
+        return (MipChain) acquire(group, key, () -> {
+            BufferedImage image = rotated ? decodeRotated(id) : decode(id);
+            return image == null ? null : MipChain.build(image, maxDrawSize);
+        });
+    }
+
+    // Give back one reference; the asset is forgotten (and can be collected) when none are left
+    public static void release(Object asset) {
+        if (asset == null) return;
+        synchronized (lock) {
+            Entry entry = byAsset.get(asset);
+            if (entry == null || --entry.references > 0) return;
+            entries.remove(entry.key, entry);
+            byAsset.remove(asset);
+            groupBytes[entry.group.ordinal()] -= entry.bytes;
+        }
+    }
+
+    public static long getGroupBytes(Group group) {
+        synchronized (lock) {
+            return groupBytes[group.ordinal()];
+        }
+    }
+
+    public static long getTotalBytes() {
+        synchronized (lock) {
+            long total = 0;
+            for (long bytes : groupBytes) {
+                total += bytes;
+            }
+            return total;
+        }
+    }
+
+    private interface Loader {
+        Object load();
+    }
+
+    private static Object acquire(Group group, String key, Loader loader) {
+        Entry entry;
+        synchronized (lock) {
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry(key, group);
+                entries.put(key, entry);
+            }
+            entry.references++;
+        }
+
+        // Decode outside the global lock so different assets load in parallel;
+        // a second caller for the same asset waits here and gets the shared copy
+        synchronized (entry) {
+            if (entry.asset == null) {
+                Object asset = loader.load();
+                if (asset == null) {
+                    synchronized (lock) {
+                        if (--entry.references == 0) {
+                            entries.remove(key, entry);
+                        }
+                    }
+                    return null;
+                }
+                synchronized (lock) {
+                    entry.asset = asset;
+                    entry.bytes = sizeOf(asset);
+                    byAsset.put(asset, entry);
+                    groupBytes[group.ordinal()] += entry.bytes;
+                }
+            }
+            return entry.asset;
+        }
+    }
+
+    private static BufferedImage decode(String id) {
+        String relative = id + EXTENSION;
+        for (String root : ROOTS) {
+            BufferedImage packed = AssetPack.lookup(root + relative);
+            if (packed != null) {
+                return packed;
+            }
+            File file = new File(root + relative);
+            if (file.isFile()) {
+                try {
+                    BufferedImage image = ImageIO.read(file);
+                    if (image != null) {
+                        return image;
+                    }
+                } catch (IOException e) {
+                    System.err.println("Could not load sprite: " + file.getPath());
+                }
+            }
+        }
+
+        // Packaged builds carry the sprites inside the jar
+        try (InputStream in = AssetManager.class.getResourceAsStream("/sprites/" + relative)) {
+            if (in != null) {
+                return ImageIO.read(in);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not load sprite from classpath: " + relative);
+        }
+        return null;
+    }
+
+    private static BufferedImage decodeRotated(String id) {
+        for (String root : ROOTS) {
+            BufferedImage packed = AssetPack.lookupRotated(root + id + EXTENSION); // Already rotated by AssetPackBuilder
+            if (packed != null) {
+                return packed;
+            }
+        }
+        BufferedImage image = decode(id);
+        return image == null ? null : rotate180(image);
+    }
+
+    // Boss art faces the wrong way for how Boss draws it
+    static BufferedImage rotate180(BufferedImage img) {
+        int w = img.getWidth();
+        int h = img.getHeight();
+        BufferedImage rotated = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = rotated.createGraphics();
+        g2d.rotate(Math.PI, w / 2.0, h / 2.0);
+        g2d.drawImage(img, 0, 0, null);
+        g2d.dispose();
+        return rotated;
+    }
+
+    private static long sizeOf(Object asset) {
+        if (asset instanceof MipChain) {
+            return ((MipChain) asset).getResidentBytes();
+        }
+        BufferedImage image = (BufferedImage) asset;
+        int bytesPerPixel = (image.getColorModel().getPixelSize() + 7) / 8;
+        return (long)image.getWidth() * image.getHeight() * bytesPerPixel;
+    }
+}
@@ -0,0 +1,202 @@
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+// Memory-mapped pack of pre-decoded sprites (built by AssetPackBuilder).
+// Pixels are stored raw as premultiplied ARGB, so loading an image is a bulk copy out of the
+// mapping instead of a PNG decode (and, for boss sprites, a rotation). Anything missing from
+// the pack, or whose source PNG is newer than the pack entry, falls back to the normal decode.
+//
+// Layout (little endian):
+//   int magic, int version, int entryCount
+//   entryCount x { short nameLength, byte[] utf8Name, int width, int height, long sourceModified, long offset }
+//   pixel data, width * height ints per entry at its offset
+public class AssetPack {
+    static final int MAGIC = 0x504D484F; // "OHMP"
+    static final int VERSION = 1;
+    static final String ROTATED_SUFFIX = "#rot180"; // Key suffix for pre-rotated boss sprites
+    private static final String[] DEFAULT_LOCATIONS = {"sprites.pack", "../sprites.pack"};
+
+    private static volatile AssetPack active = null;
+
+    private static class Entry {
+        final int width;
+        final int height;
+        final long sourceModified;
+        final long offset;
+
+        Entry(int width, int height, long sourceModified, long offset) {
+            this.width = width;
+            this.height = height;
+            this.sourceModified = sourceModified;
+            this.offset = offset;
+        }
+    }
+
+    private final MappedByteBuffer data;
+    private final Map<String, Entry> index;
+
+    private AssetPack(MappedByteBuffer data, Map<String, Entry> index) {
+        this.data = data;
+        this.index = index;
+    }
+
+    // Map the pack if one exists next to the sprites folder; safe to call more than once
+    public static void openDefault() {
+        if (active != null) return;
+        for (String location : DEFAULT_LOCATIONS) {
+            File file = new File(location);
+            if (file.isFile()) {
+                try {
+                    long start = System.nanoTime();
+                    active = open(file.toPath());
+                    System.out.println(String.format("Mapped asset pack %s (%d entries) in %.1fms",
+                        location, active.index.size(), (System.nanoTime() - start) / 1_000_000.0));
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Could not open asset pack " + location + " - decoding PNGs instead: " + e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    static AssetPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("pack is larger than 2 GB");
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            data.order(ByteOrder.LITTLE_ENDIAN);
+            if (data.getInt() != MAGIC) {
+                throw new IOException("not an asset pack");
+            }
+            int version = data.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported pack version " + version);
+            }
+            int count = data.getInt();
+            Map<String, Entry> index = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[data.getShort() & 0xFFFF];
+                data.get(name);
+                index.put(new String(name, StandardCharsets.UTF_8),
+                          new Entry(data.getInt(), data.getInt(), data.getLong(), data.getLong()));
+            }
+            return new AssetPack(data, index);
+        }
+    }
+
+    // Pre-decoded image for a sprite path, or null if it has to be decoded from the PNG
+    public static BufferedImage lookup(String path) {
+        AssetPack pack = active;
+        return pack == null ? null : pack.read(key(path), path);
+    }
+
+    // Same as lookup, for the 180 degree rotated copy the boss sprites use
+    public static BufferedImage lookupRotated(String path) {
+        AssetPack pack = active;
+        return pack == null ? null : pack.read(key(path) + ROTATED_SUFFIX, path);
+    }
+
+    // Pack keys are the path relative to the project root with forward slashes
+    static String key(String path) {
+        String key = path.replace('\\', '/');
+        while (key.startsWith("../")) {
+            key = key.substring(3);
+        }
+        return key;
+    }
+
+    private BufferedImage read(String key, String sourcePath) {
+        Entry entry = index.get(key);
+        if (entry == null) return null;
+
+        // A PNG edited after the pack was built wins over the stale pack copy
+        File source = new File(sourcePath);
+        if (source.exists() && source.lastModified() != entry.sourceModified) {
+            return null;
+        }
+
+        int[] pixels = new int[entry.width * entry.height];
+        IntBuffer view = data.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+                             .position((int)entry.offset).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        view.get(pixels, 0, pixels.length);
+
+        BufferedImage image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        // setDataElements copies into the raster without making it untrackable (keeps it accelerated)
+        image.getRaster().setDataElements(0, 0, entry.width, entry.height, pixels);
+        return image;
+    }
+
+    // Write a pack. Images are produced one at a time by index so the builder never holds them all;
+    // the header size only depends on the names, so pixels are streamed first and the header last.
+    static void write(Path target, String[] keys, long[] sourceModified, IntFunction<BufferedImage> produce) throws IOException {
+        int headerSize = 12;
+        byte[][] names = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            names[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+            headerSize += 2 + names[i].length + 4 + 4 + 8 + 8;
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(keys.length);
+
+        Path temp = Paths.get(target.toString() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = (headerSize + 3) & ~3L; // Pixel data is int aligned
+            channel.position(offset);
+            for (int i = 0; i < keys.length; i++) {
+                BufferedImage image = toPremultiplied(produce.apply(i));
+                int width = image.getWidth();
+                int height = image.getHeight();
+                header.putShort((short)names[i].length).put(names[i]);
+                header.putInt(width).putInt(height).putLong(sourceModified[i]).putLong(offset);
+
+                ByteBuffer row = ByteBuffer.allocate(width * 4).order(ByteOrder.LITTLE_ENDIAN);
+                int[] rowPixels = new int[width];
+                for (int y = 0; y < height; y++) {
+                    image.getRaster().getDataElements(0, y, width, 1, rowPixels);
+                    row.clear();
+                    row.asIntBuffer().put(rowPixels);
+                    while (row.hasRemaining()) {
+                        channel.write(row);
+                    }
+                }
+                offset += (long)width * height * 4;
+            }
+
+            header.flip();
+            long headerPosition = 0;
+            while (header.hasRemaining()) {
+                headerPosition += channel.write(header, headerPosition);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static BufferedImage toPremultiplied(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB_PRE) return image;
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = converted.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return converted;
+    }
+}
@@ -0,0 +1,106 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.imageio.ImageIO;
+
+// Build step: converts the game's sprites into sprites.pack (see AssetPack) so startup maps
+// pre-decoded pixels instead of decoding PNGs. Boss sprites are stored already rotated, the way
+// Boss draws them. Backgrounds are large once decoded (~11 MB per layer), so they are opt-in.
+//
+// Usage (from the project root, after compiling as in README.md): java -cp src AssetPackBuilder [--backgrounds]
+public class AssetPackBuilder {
+    private static final String OUTPUT = "sprites.pack";
+
+    // Drawn as-is
+    private static final String[] PLAIN_DIRS = {
+        "sprites/Missle Man Assets/Projectiles",
+        "sprites/Missle Man Assets/Missles"
+    };
+
+    // Boss sprites - only the rotated copy is ever drawn
+    private static final String[] ROTATED_DIRS = {
+        "sprites/Missle Man Assets/Regular Planes/High Res",
+        "sprites/Missle Man Assets/Boss Planes",
+        "sprites/Missle Man Assets/Helecopters"
+    };
+
+    public static void main(String[] args) {
+        boolean withBackgrounds = Arrays.asList(args).contains("--backgrounds");
+        List<String> keys = new ArrayList<>();
+        List<File> sources = new ArrayList<>();
+        List<Boolean> rotated = new ArrayList<>();
+
+        for (String dir : PLAIN_DIRS) {
+            for (File file : listPngs(dir)) {
+                keys.add(dir + "/" + file.getName());
+                sources.add(file);
+                rotated.add(false);
+            }
+        }
+        for (String dir : ROTATED_DIRS) {
+            for (File file : listPngs(dir)) {
+                keys.add(dir + "/" + file.getName() + AssetPack.ROTATED_SUFFIX);
+                sources.add(file);
+                rotated.add(true);
+            }
+        }
+        File overlay = new File("sprites/Backgrounds/Overlay.png");
+        if (overlay.isFile()) {
+            keys.add("sprites/Backgrounds/Overlay.png");
+            sources.add(overlay);
+            rotated.add(false);
+        }
+        if (withBackgrounds) {
+            for (int set = 1; set <= BackgroundCache.SET_COUNT; set++) {
+                String dir = "sprites/Backgrounds/background (" + set + ")";
+                for (File file : listPngs(dir)) {
+                    keys.add(dir + "/" + file.getName());
+                    sources.add(file);
+                    rotated.add(false);
+                }
+            }
+        }
+
+        if (keys.isEmpty()) {
+            System.err.println("No sprites found - run this from the project root");
+            System.exit(1);
+        }
+
+        long[] modified = new long[sources.size()];
+        for (int i = 0; i < modified.length; i++) {
+            modified[i] = sources.get(i).lastModified();
+        }
+
+        long start = System.nanoTime();
+        try {
+            AssetPack.write(Paths.get(OUTPUT), keys.toArray(new String[0]), modified, i -> {
+                try {
+                    BufferedImage image = ImageIO.read(sources.get(i));
+                    if (image == null) {
+                        throw new IOException("unreadable image");
+                    }
+                    return rotated.get(i) ? AssetManager.rotate180(image) : image;
+                } catch (IOException e) {
+                    throw new IllegalStateException("Could not read " + sources.get(i) + ": " + e.getMessage(), e);
+                }
+            });
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Failed to write " + OUTPUT + ": " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+        System.out.println(String.format("Wrote %s: %d images, %.1f MB in %.1fs", OUTPUT, keys.size(),
+            new File(OUTPUT).length() / (1024.0 * 1024.0), (System.nanoTime() - start) / 1_000_000_000.0));
+    }
+
+    private static File[] listPngs(String dir) {
+        File[] files = new File(dir).listFiles((d, name) -> name.toLowerCase().endsWith(".png"));
+        if (files == null) return new File[0];
+        Arrays.sort(files);
+        return files;
+    }
+}
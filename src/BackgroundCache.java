@@ -0,0 +1,162 @@
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Streams parallax background sets per level instead of keeping all of them decoded.
+// Sets are decoded on demand (or ahead of time with prefetch) on a low-priority worker and
+// kept in an LRU map; once the decoded bytes exceed the budget the least recently drawn
+// sets are dropped. The most recently used set is never evicted, even if it alone is over budget.
+public class BackgroundCache {
+    public static final int SET_COUNT = 14;
+    public static final int LAYERS_PER_SET = 6;
+    public static final long DEFAULT_BUDGET_BYTES = Long.getLong("onehitman.backgroundCacheMB", 128) * 1024 * 1024;
+
+    private final long budgetBytes;
+    private final LinkedHashMap<Integer, BufferedImage[]> sets = new LinkedHashMap<>(16, 0.75f, true); // Access order = LRU
+    private final Map<Integer, CompletableFuture<BufferedImage[]>> inFlight = new HashMap<>();
+    private final ExecutorService worker;
+    private long residentBytes;
+
+    public BackgroundCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "BackgroundPrefetch");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY); // Never compete with the game loop
+            return t;
+        });
+    }
+
+    // Levels cycle through the available background sets
+    public static int setForLevel(int level) {
+        return Math.floorMod(level - 1, SET_COUNT);
+    }
+
+    // Layers for a set if they are already decoded (marks the set as recently used), else null
+    public synchronized BufferedImage[] getIfLoaded(int set) {
+        return sets.get(set);
+    }
+
+    // Start decoding a set in the background unless it is cached or already on its way
+    public synchronized void prefetch(int set) {
+        CompletableFuture<BufferedImage[]> pending = inFlight.get(set);
+        if (sets.containsKey(set) || (pending != null && !pending.isDone())) return;
+        // The chained future only completes after the set is in the map, so require() can wait on it
+        CompletableFuture<BufferedImage[]> future = CompletableFuture.supplyAsync(() -> decodeSet(set), worker)
+            .whenComplete((layers, error) -> {
+                if (error != null) {
+                    System.err.println("Failed to prefetch background set " + (set + 1) + ": " + error.getMessage());
+                }
+                synchronized (this) {
+                    inFlight.remove(set);
+                    if (layers != null) {
+                        put(set, layers);
+                    }
+                }
+            });
+        if (!future.isDone()) {
+            inFlight.put(set, future);
+        }
+    }
+
+    // Blocks until a set is decoded (joins an in-flight prefetch rather than decoding twice)
+    public BufferedImage[] require(int set) {
+        CompletableFuture<BufferedImage[]> pending;
+        synchronized (this) {
+            BufferedImage[] cached = sets.get(set);
+            if (cached != null) return cached;
+            prefetch(set);
+            pending = inFlight.get(set);
+        }
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+        return getIfLoaded(set);
+    }
+
+    // Queue a set's layers on the startup loader; call put() with the array after awaitAll()
+    public static BufferedImage[] queueSet(AssetLoader loader, int set) {
+        BufferedImage[] layers = new BufferedImage[LAYERS_PER_SET];
+        for (int layer = 0; layer < LAYERS_PER_SET; layer++) {
+            final int l = layer;
+            loader.submit("background " + (set + 1) + "/" + (layer + 1), () -> layers[l] = decodeLayer(set, l));
+        }
+        return layers;
+    }
+
+    public synchronized void put(int set, BufferedImage[] layers) {
+        BufferedImage[] previous = sets.put(set, layers);
+        if (previous != null) {
+            residentBytes -= sizeOf(previous);
+            if (previous != layers) {
+                releaseLayers(previous);
+            }
+        }
+        residentBytes += sizeOf(layers);
+
+        // Evict least recently used sets until we fit (the set just added is the newest, so it stays)
+        Iterator<Map.Entry<Integer, BufferedImage[]>> it = sets.entrySet().iterator();
+        while (residentBytes > budgetBytes && sets.size() > 1 && it.hasNext()) {
+            Map.Entry<Integer, BufferedImage[]> eldest = it.next();
+            if (eldest.getKey() == set) continue;
+            residentBytes -= sizeOf(eldest.getValue());
+            releaseLayers(eldest.getValue());
+            it.remove();
+        }
+    }
+
+    private static void releaseLayers(BufferedImage[] layers) {
+        for (BufferedImage layer : layers) {
+            AssetManager.release(layer);
+        }
+    }
+
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public synchronized int getResidentSets() {
+        return sets.size();
+    }
+
+    private static BufferedImage[] decodeSet(int set) {
+        BufferedImage[] layers = new BufferedImage[LAYERS_PER_SET];
+        for (int layer = 0; layer < LAYERS_PER_SET; layer++) {
+            layers[layer] = decodeLayer(set, layer);
+        }
+        return layers;
+    }
+
+    private static BufferedImage decodeLayer(int set, int layer) {
+        String id = String.format("Backgrounds/background (%d)/%d", set + 1, layer + 1);
+        BufferedImage image = AssetManager.acquireImage(AssetManager.Group.BACKGROUNDS, id);
+        if (image == null) {
+            // Not every set has all six layers
+            System.err.println("Failed to load background layer " + (layer + 1) + " for set " + (set + 1));
+        }
+        return image;
+    }
+
+    private static long sizeOf(BufferedImage[] layers) {
+        long bytes = 0;
+        for (BufferedImage layer : layers) {
+            if (layer != null) {
+                int bytesPerPixel = (layer.getColorModel().getPixelSize() + 7) / 8;
+                bytes += (long)layer.getWidth() * layer.getHeight() * bytesPerPixel;
+            }
+        }
+        return bytes;
+    }
+}
@@ -1,13 +1,12 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
+import java.util.Random;
 
 public class Boss {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the tick, for render interpolation
     private double vx, vy; // Velocity
     private double ax, ay; // Acceleration
     private double rotation; // Current rotation angle
@@ -30,8 +29,12 @@ public class Boss {
     
     private int shootTimer;
     private int shootInterval;
+    private int volleys; // Volleys fired this fight; spinning patterns turn a step per volley
+    private static final Random SHARED_ROLLS = new Random(); // What rolls.nextDouble() would use
+    private Random rolls = SHARED_ROLLS; // Movement, pattern picks, beams and bullet spreads (see seedRolls)
     private int patternType;
     private int maxPatterns; // Maximum attack patterns unlocked
+    private PatternLibrary.Set patterns; // Compiled attacks for this level
     private double targetX, targetY; // Target position for smooth movement
     private int moveTimer; // Timer to pick new target
     private int beamAttackTimer; // Timer for beam attacks
@@ -39,13 +42,14 @@ public class Boss {
     private List<BeamAttack> beamAttacks; // Active beam attacks
     
     // Multiple sprite variants for planes and helicopters
-    private static BufferedImage[] miniBossPlaneSprites = new BufferedImage[8];
-    private static BufferedImage[] megaBossPlaneSprites = new BufferedImage[8];
-    private static BufferedImage[] helicopterSprites = new BufferedImage[8];
-    private static BufferedImage[] miniBossPlaneShadows = new BufferedImage[8];
-    private static BufferedImage[] megaBossPlaneShadows = new BufferedImage[8];
-    private static BufferedImage[] helicopterShadows = new BufferedImage[8];
-    private static BufferedImage[] helicopterBlades = new BufferedImage[3]; // Rotor blade sprites
+    private static MipChain[] miniBossPlaneSprites = new MipChain[8];
+    private static MipChain[] megaBossPlaneSprites = new MipChain[8];
+    private static MipChain[] helicopterSprites = new MipChain[8];
+    private static MipChain[] miniBossPlaneShadows = new MipChain[8];
+    private static MipChain[] megaBossPlaneShadows = new MipChain[8];
+    private static MipChain[] helicopterShadows = new MipChain[8];
+    private static MipChain[] helicopterBlades = new MipChain[3]; // Rotor blade sprites
+    private static final int MAX_DRAW_SIZE = (int)(BASE_SIZE * 1.5 * 2 * 1.2); // Mega boss sprite (size * 2) with 1.2x rotor blades
     private static boolean spritesLoaded = false;
     
     // Animation for helicopter blades
@@ -60,9 +64,36 @@ public class Boss {
     private int phaseTransitionTimer;
     private static final int PHASE_TRANSITION_DURATION = 90; // 1.5 seconds
     
+    // Everything about a boss that changes during a fight, captured once the intro has finished so
+    // a retry can put the same boss back without rebuilding it (see Game.retryLevel)
+    public static final class Snapshot {
+        private final int level;
+        private final double x, y;
+        private final double rotation;
+        private final double bladeRotation;
+        private final int shootTimer;
+        private final int volleys;
+        private final int patternType;
+        private final int beamAttackTimer;
+        
+        private Snapshot(Boss boss) {
+            level = boss.level;
+            x = boss.x;
+            y = boss.y;
+            rotation = boss.rotation;
+            bladeRotation = boss.bladeRotation;
+            shootTimer = boss.shootTimer;
+            volleys = boss.volleys;
+            patternType = boss.patternType;
+            beamAttackTimer = boss.beamAttackTimer;
+        }
+        
+        public int getLevel() { return level; }
+    }
+    
     public Boss(double x, double y, int level) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
         this.vx = 0;
         this.vy = 0;
         this.ax = 0;
@@ -86,13 +117,13 @@ public class Boss {
         this.shootTimer = 0;
         this.shootInterval = Math.max(50, 80 + level * 3); // Back to original timing
         // Start with random pattern from available pool
-        this.patternType = (int)(Math.random() * maxPatterns);
+        this.patternType = (int)(rolls.nextDouble() * maxPatterns);
         // Start with current position as target
         this.targetX = x;
         this.targetY = y;
         this.moveTimer = 0;
         this.beamAttacks = new ArrayList<>();
-        this.beamAttackTimer = 120 + (int)(Math.random() * 60); // First beam after 2-3 seconds
+        this.beamAttackTimer = 120 + (int)(rolls.nextDouble() * 60); // First beam after 2-3 seconds
         this.beamAttackInterval = Math.max(180, 300 - level * 10); // More frequent at higher levels
         
         // Initialize health and phases
@@ -105,107 +136,62 @@ public class Boss {
         loadSprites();
     }
     
-    private BufferedImage rotateImage180(BufferedImage img) {
-        int w = img.getWidth();
-        int h = img.getHeight();
-        BufferedImage rotated = new BufferedImage(w, h, img.getType());
-        Graphics2D g2d = rotated.createGraphics();
-        g2d.rotate(Math.PI, w / 2.0, h / 2.0);
-        g2d.drawImage(img, 0, 0, null);
-        g2d.dispose();
-        return rotated;
-    }
-    
     private void loadSprites() {
         if (spritesLoaded) return;
-        try {
-            // Load mini boss plane variants (Regular Planes)
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 7.png", miniBossPlaneSprites, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 8.png", miniBossPlaneSprites, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 9.png", miniBossPlaneSprites, 2);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 10.png", miniBossPlaneSprites, 3);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 11.png", miniBossPlaneSprites, 4);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 12.png", miniBossPlaneSprites, 5);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 13.png", miniBossPlaneSprites, 6);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 14.png", miniBossPlaneSprites, 7);
-            
-            // Load mini boss plane shadows
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 7 Shadow.png", miniBossPlaneShadows, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 8 Shadow.png", miniBossPlaneShadows, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 9 Shadow.png", miniBossPlaneShadows, 2);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 10 Shadow.png", miniBossPlaneShadows, 3);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 11 Shadow.png", miniBossPlaneShadows, 4);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 12 Shadow.png", miniBossPlaneShadows, 5);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 13 Shadow.png", miniBossPlaneShadows, 6);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Regular Planes\\High Res\\Plane 14 Shadow.png", miniBossPlaneShadows, 7);
-            
-            // Load mega boss plane variants (Boss Planes)
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 1.png", megaBossPlaneSprites, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 2.png", megaBossPlaneSprites, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 3.png", megaBossPlaneSprites, 2);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 4.png", megaBossPlaneSprites, 3);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 5.png", megaBossPlaneSprites, 4);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 6.png", megaBossPlaneSprites, 5);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 7.png", megaBossPlaneSprites, 6);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 8.png", megaBossPlaneSprites, 7);
-            
-            // Load mega boss plane shadows
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 1 Shadow.png", megaBossPlaneShadows, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 2 Shadow.png", megaBossPlaneShadows, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 3 Shadow.png", megaBossPlaneShadows, 2);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 4 Shadow.png", megaBossPlaneShadows, 3);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 5 Shadow.png", megaBossPlaneShadows, 4);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 6 Shadow.png", megaBossPlaneShadows, 5);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 7 Shadow.png", megaBossPlaneShadows, 6);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Boss Planes\\Boss Plane 8 Shadow.png", megaBossPlaneShadows, 7);
-            
-            // Load helicopter variants
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 1.png", helicopterSprites, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 2.png", helicopterSprites, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 3.png", helicopterSprites, 2);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 4.png", helicopterSprites, 3);
-            helicopterSprites[4] = helicopterSprites[0]; // Reuse
-            helicopterSprites[5] = helicopterSprites[1]; // Reuse
-            helicopterSprites[6] = helicopterSprites[2]; // Reuse
-            helicopterSprites[7] = helicopterSprites[3]; // Reuse
-            
-            // Load helicopter shadows
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 1 Shadow.png", helicopterShadows, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 2 Shadow.png", helicopterShadows, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 3 Shadow.png", helicopterShadows, 2);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 4 Shadow.png", helicopterShadows, 3);
-            helicopterShadows[4] = helicopterShadows[0]; // Reuse
-            helicopterShadows[5] = helicopterShadows[1]; // Reuse
-            helicopterShadows[6] = helicopterShadows[0]; // Reuse
-            helicopterShadows[7] = helicopterShadows[1]; // Reuse
-            
-            // Load helicopter blade sprites
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter Wings.png", helicopterBlades, 0);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 3 Wings.png", helicopterBlades, 1);
-            loadBossSpriteWithPath("sprites\\Missle Man Assets\\Helecopters\\Helecopter 4 Wings.png", helicopterBlades, 2);
-            
-            spritesLoaded = true;
-        } catch (IOException e) {
-            System.err.println("Failed to load boss sprites: " + e.getMessage());
-            // Don't set spritesLoaded to false - allow fallback rendering
-        }
+        // Normally preloaded by the startup AssetLoader; this only runs if a Boss is built before that
+        AssetLoader loader = new AssetLoader(null);
+        queueSprites(loader);
+        loader.awaitAll();
+        finishSpriteLoading();
     }
     
-    private void loadBossSpriteWithPath(String path, BufferedImage[] array, int index) throws IOException {
-        try {
-            array[index] = rotateImage180(ImageIO.read(new File(path)));
-        } catch (IOException e) {
-            System.err.println("Could not load boss sprite: " + path);
-            throw e;
+    // Register every boss sprite, shadow and rotor with the startup loader (decoded and rotated on workers)
+    public static void queueSprites(AssetLoader loader) {
+        // Load mini boss plane variants (Regular Planes) and their shadows
+        for (int i = 0; i < 8; i++) {
+            queueBossSprite(loader, "Missle Man Assets/Regular Planes/High Res/Plane " + (i + 7), miniBossPlaneSprites, i);
+            queueBossSprite(loader, "Missle Man Assets/Regular Planes/High Res/Plane " + (i + 7) + " Shadow", miniBossPlaneShadows, i);
+        }
+        
+        // Load mega boss plane variants (Boss Planes) and their shadows
+        for (int i = 0; i < 8; i++) {
+            queueBossSprite(loader, "Missle Man Assets/Boss Planes/Boss Plane " + (i + 1), megaBossPlaneSprites, i);
+            queueBossSprite(loader, "Missle Man Assets/Boss Planes/Boss Plane " + (i + 1) + " Shadow", megaBossPlaneShadows, i);
+        }
+        
+        // Load helicopter variants - there are only four airframes, so variants 5-8 share them
+        // (the asset manager hands back the same decoded copy)
+        int[] helicopterShadowSource = {1, 2, 3, 4, 1, 2, 1, 2};
+        for (int i = 0; i < 8; i++) {
+            queueBossSprite(loader, "Missle Man Assets/Helecopters/Helecopter " + (i % 4 + 1), helicopterSprites, i);
+            queueBossSprite(loader, "Missle Man Assets/Helecopters/Helecopter " + helicopterShadowSource[i] + " Shadow", helicopterShadows, i);
         }
+        
+        // Load helicopter blade sprites
+        queueBossSprite(loader, "Missle Man Assets/Helecopters/Helecopter Wings", helicopterBlades, 0);
+        queueBossSprite(loader, "Missle Man Assets/Helecopters/Helecopter 3 Wings", helicopterBlades, 1);
+        queueBossSprite(loader, "Missle Man Assets/Helecopters/Helecopter 4 Wings", helicopterBlades, 2);
+    }
+    
+    public static void finishSpriteLoading() {
+        spritesLoaded = true;
+    }
+    
+    private static void queueBossSprite(AssetLoader loader, String id, MipChain[] array, int index) {
+        loader.submit(id, () -> {
+            array[index] = AssetManager.acquireMipChain(AssetManager.Group.BOSSES, id, MAX_DRAW_SIZE, true);
+            if (array[index] == null) {
+                System.err.println("Could not load boss sprite: " + id);
+            }
+        });
     }
     
-    public void update(List<Bullet> bullets, Player player, int screenWidth, int screenHeight) {
-        update(bullets, player, screenWidth, screenHeight, 1.0, null);
+    public void update(SpawnScheduler spawner, Player player, int screenWidth, int screenHeight) {
+        update(spawner, player, screenWidth, screenHeight, 1.0, null);
     }
     
-    public void update(List<Bullet> bullets, Player player, int screenWidth, int screenHeight, double deltaTime) {
-        update(bullets, player, screenWidth, screenHeight, deltaTime, null);
+    public void update(SpawnScheduler spawner, Player player, int screenWidth, int screenHeight, double deltaTime) {
+        update(spawner, player, screenWidth, screenHeight, deltaTime, null);
     }
     
     // Update only visual animations (helicopter blades, etc.) - safe to call during intro
@@ -219,12 +205,12 @@ public class Boss {
         }
     }
     
-    public void update(List<Bullet> bullets, Player player, int screenWidth, int screenHeight, double deltaTime, List<Particle> particles) {
+    public void update(SpawnScheduler spawner, Player player, int screenWidth, int screenHeight, double deltaTime, List<Particle> particles) {
         // Smooth movement to target position
         moveTimer += deltaTime;
         
         // Pick a new target every 120-180 frames (2-3 seconds) for longer paths
-        if (moveTimer >= 120 + Math.random() * 60) {
+        if (moveTimer >= 120 + rolls.nextDouble() * 60) {
             moveTimer = 0;
             
             // Calculate vector away from player
@@ -244,11 +230,11 @@ public class Boss {
             double centerX = screenWidth / 2.0;
             double centerY = screenHeight / 3.0; // Lowered from /4.0 to /3.0
             double radius = Math.min(screenWidth, screenHeight) / 2.0; // Increased from /3.0 to /2.0 for larger circles
-            double angle = Math.random() * Math.PI * 2;
+            double angle = rolls.nextDouble() * Math.PI * 2;
             
             // Bias the angle to point away from player
             double angleToPlayer = Math.atan2(playerY - y, playerX - x);
-            double avoidAngle = angleToPlayer + Math.PI + (Math.random() - 0.5) * Math.PI / 2; // Opposite direction ± 45°
+            double avoidAngle = angleToPlayer + Math.PI + (rolls.nextDouble() - 0.5) * Math.PI / 2; // Opposite direction ± 45°
             
             targetX = centerX + Math.cos(avoidAngle) * radius;
             targetY = centerY + Math.sin(avoidAngle) * radius;
@@ -317,7 +303,7 @@ public class Boss {
         // Generate wing tip trails for all boss types (planes and helicopters)
         if (particles != null) {
             // Get current sprite dimensions for accurate wing positioning
-            BufferedImage currentSprite = getCurrentSprite();
+            MipChain currentSprite = getCurrentSprite();
             double wingSpan = size * 0.8; // Default fallback
             
             if (currentSprite != null) {
@@ -350,16 +336,16 @@ public class Boss {
             int trailSizeVariation = isMegaBoss ? 6 : 3;
             
             // Spawn trail particles at wing tips (every few frames)
-            if (Math.random() < 0.3 * deltaTime) {
+            if (rolls.nextDouble() < 0.3 * deltaTime) {
                 // Left wing trail
                 particles.add(new Particle(
                     leftWingX,
                     leftWingY,
-                    -vx * 0.3 + (Math.random() - 0.5) * 0.5,
-                    -vy * 0.3 + (Math.random() - 0.5) * 0.5,
+                    -vx * 0.3 + (rolls.nextDouble() - 0.5) * 0.5,
+                    -vy * 0.3 + (rolls.nextDouble() - 0.5) * 0.5,
                     new Color(200, 220, 255, 180), // Light blue/white
-                    20 + (int)(Math.random() * 15),
-                    trailSize + (int)(Math.random() * trailSizeVariation),
+                    20 + (int)(rolls.nextDouble() * 15),
+                    trailSize + (int)(rolls.nextDouble() * trailSizeVariation),
                     Particle.ParticleType.TRAIL
                 ));
                 
@@ -367,11 +353,11 @@ public class Boss {
                 particles.add(new Particle(
                     rightWingX,
                     rightWingY,
-                    -vx * 0.3 + (Math.random() - 0.5) * 0.5,
-                    -vy * 0.3 + (Math.random() - 0.5) * 0.5,
+                    -vx * 0.3 + (rolls.nextDouble() - 0.5) * 0.5,
+                    -vy * 0.3 + (rolls.nextDouble() - 0.5) * 0.5,
                     new Color(200, 220, 255, 180), // Light blue/white
-                    20 + (int)(Math.random() * 15),
-                    trailSize + (int)(Math.random() * trailSizeVariation),
+                    20 + (int)(rolls.nextDouble() * 15),
+                    trailSize + (int)(rolls.nextDouble() * trailSizeVariation),
                     Particle.ParticleType.TRAIL
                 ));
             }
@@ -405,7 +391,7 @@ public class Boss {
         shootTimer += deltaTime * phaseSpeedMultiplier;
         if (shootTimer >= shootInterval) {
             shootTimer = 0;
-            shoot(bullets, player);
+            shoot(spawner, player);
         }
         
         // Beam attacks (at higher levels)
@@ -427,425 +413,34 @@ public class Boss {
         }
     }
     
-    private void shoot(List<Bullet> bullets, Player player) {
-        // Mega bosses have special attack patterns
-        if (isMegaBoss && Math.random() < 0.25) {
-            // 25% chance to use mega boss special attacks
-            int specialPattern = (int)(Math.random() * 5);
-            switch (specialPattern) {
-                case 0:
-                    shootMegaBarrage(bullets, player);
-                    return;
-                case 1:
-                    shootMegaSpiral(bullets);
-                    return;
-                case 2:
-                    shootMegaCross(bullets, player);
-                    return;
-                case 3:
-                    shootMegaStar(bullets);
-                    return;
-                case 4:
-                    shootMegaHex(bullets, player);
-                    return;
-            }
-        }
-        
-        // Cycle through unlocked patterns only
-        patternType = (patternType + 1) % maxPatterns;
-        
-        switch (patternType % 15) {
-            case 0: // Spiral pattern
-                shootSpiral(bullets);
-                break;
-            case 1: // Circle pattern
-                shootCircle(bullets, 15 + level * 2); // Increased from 10 + level
-                break;
-            case 2: // Aimed at player
-                shootAtPlayer(bullets, player, 6); // Increased from 4
-                break;
-            case 3: // Wave pattern
-                shootWave(bullets);
-                break;
-            case 4: // Random spray
-                shootRandom(bullets, 10 + level * 2); // Increased from 6 + level
-                break;
-            case 5: // Fast bullets
-                shootFast(bullets, player);
-                break;
-            case 6: // Large bullets
-                shootLarge(bullets);
-                break;
-            case 7: // Mixed attack
-                shootMixed(bullets, player);
-                break;
-            case 8: // Spiral bullets
-                shootSpiralBullets(bullets);
-                break;
-            case 9: // Splitting bullets
-                shootSplittingBullets(bullets);
-                break;
-            case 10: // Accelerating bullets
-                shootAcceleratingBullets(bullets, player);
-                break;
-            case 11: // Wave bullets
-                shootWaveBullets(bullets);
-                break;
-            case 12: // Bombs
-                shootBombs(bullets);
-                break;
-            case 13: // Grenades at player
-                shootGrenades(bullets, player);
-                break;
-            case 14: // Mini nukes
-                shootNukes(bullets);
-                break;
-        }
-    }
-    
-    private void shootSpiral(List<Bullet> bullets) {
-        int numBullets = 12 + level * 2; // Increased from 8 + level
-        double angleOffset = shootTimer * 0.1;
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        for (int i = 0; i < numBullets; i++) {
-            double angle = (Math.PI * 2 * i / numBullets) + angleOffset;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier));
-        }
-    }
-    
-    private void shootCircle(List<Bullet> bullets, int numBullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI * 2 * i / numBullets;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier));
-        }
-    }
-    
-    private void shootAtPlayer(List<Bullet> bullets, Player player, int spread) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        for (int i = -spread; i <= spread; i++) {
-            double angle = angleToPlayer + (i * 0.2);
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 4 * speedMultiplier, Math.sin(angle) * 4 * speedMultiplier));
-        }
-    }
-    
-    private void shootWave(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        int numBullets = 16 + level * 2; // Increased from 12 + level
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI / 4 + (Math.PI / 2 * i / numBullets);
-            double speed = (2 + Math.sin(i * 0.5) * 1.5) * speedMultiplier;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed));
-        }
-    }
-    
-    private void shootRandom(List<Bullet> bullets, int numBullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.random() * Math.PI * 2;
-            double speed = (2 + Math.random() * 2) * speedMultiplier;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed));
-        }
-    }
-    
-    private void shootFast(List<Bullet> bullets, Player player) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        for (int i = 0; i < 5 + level; i++) { // Increased from 3 + level / 2
-            double angle = angleToPlayer + (Math.random() - 0.5) * 0.5;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 6 * speedMultiplier, Math.sin(angle) * 6 * speedMultiplier, Bullet.BulletType.FAST));
-        }
-    }
-    
-    private void shootLarge(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        int numBullets = 5 + level; // Increased from 3 + level / 2
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI * 2 * i / numBullets;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.LARGE));
-        }
-    }
-    
-    private void shootMixed(List<Bullet> bullets, Player player) {
-        // Combination attack with different bullet types
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        
-        // Homing bullets
-        for (int i = 0; i < 3; i++) { // Increased from 1
-            double angle = angleToPlayer + (i - 1) * 0.3;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.HOMING));
-        }
-        
-        // Circle of bouncing bullets
-        if (level >= 3) {
-            for (int i = 0; i < 8; i++) { // Increased from 4
-                double angle = Math.PI * 2 * i / 8; // Updated divisor
-                double spawnX = x + Math.cos(angle) * size * 1.5;
-                double spawnY = y + Math.sin(angle) * size * 1.5;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier, Bullet.BulletType.BOUNCING));
-            }
-        }
-    }
-    
-    private void shootSpiralBullets(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        int numBullets = 5 + level; // Increased from 3 + level / 2
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI * 2 * i / numBullets;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2 * speedMultiplier, Math.sin(angle) * 2 * speedMultiplier, Bullet.BulletType.SPIRAL));
-        }
-    }
-    
-    private void shootSplittingBullets(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        int numBullets = 4 + level; // Increased from 2 + level / 2
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI * 2 * i / numBullets;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.SPLITTING));
-        }
-    }
-    
-    private void shootAcceleratingBullets(List<Bullet> bullets, Player player) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        for (int i = -2; i <= 2; i++) { // Increased from -1 to 1 (now 5 bullets instead of 3)
-            double angle = angleToPlayer + i * 0.3;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.ACCELERATING));
-        }
+    private void shoot(SpawnScheduler spawner, Player player) {
+        BulletPattern pattern = nextPattern();
+        pattern.fire(spawner, x, y, size * 1.5, player.getX(), player.getY(), volleys++, rolls);
+        GameEvents.patternFired(level, pattern.getName(), pattern.getBulletCount());
     }
     
-    private void shootWaveBullets(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
-        int numBullets = 8 + level; // Increased from 5 + level / 2
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI / 4 + (Math.PI / 2 * i / numBullets);
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.WAVE));
+    // Picks the next attack from the compiled patterns for this level
+    private BulletPattern nextPattern() {
+        if (patterns == null) {
+            patterns = PatternLibrary.forLevel(level);
         }
-    }
-    
-    private void shootBombs(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        int numBullets = 3 + level / 2; // Increased from 2 + level / 3
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI * 2 * i / numBullets;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.0 * speedMultiplier, Math.sin(angle) * 2.0 * speedMultiplier, Bullet.BulletType.BOMB));
-        }
-    }
-    
-    private void shootGrenades(List<Bullet> bullets, Player player) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        int numBullets = 2 + (level >= 5 ? 1 : 0); // Increased from 1 + (level >= 5 ? 1 : 0)
-        for (int i = 0; i < numBullets; i++) {
-            double angle = angleToPlayer + (i - numBullets/2.0) * 0.3;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.GRENADE));
-        }
-    }
-    
-    private void shootNukes(List<Bullet> bullets) {
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        // 1-3 nukes since they're very powerful
-        int numBullets = 1 + (level >= 4 ? 1 : 0) + (level >= 7 ? 1 : 0); // Increased from 1 + (level >= 5 ? 1 : 0)
-        for (int i = 0; i < numBullets; i++) {
-            double angle = Math.PI * 2 * i / numBullets;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.NUKE));
-        }
-    }
-    
-    // ========== MEGA BOSS SPECIAL ATTACKS ==========
-    
-    private void shootMegaBarrage(List<Bullet> bullets, Player player) {
-        // Massive dense bullet storm aimed at player
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        
-        // Dense cone of bullets
-        int numBullets = 15 + level * 2;
-        for (int i = 0; i < numBullets; i++) {
-            double spread = Math.PI / 3; // 60 degree cone
-            double angle = angleToPlayer + (i / (double)numBullets - 0.5) * spread;
-            double speed = (2.5 + Math.random() * 2) * speedMultiplier;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            
-            // Mix of bullet types for chaos
-            Bullet.BulletType type;
-            double rand = Math.random();
-            if (rand < 0.3) {
-                type = Bullet.BulletType.FAST;
-            } else if (rand < 0.5) {
-                type = Bullet.BulletType.HOMING;
-            } else if (rand < 0.7) {
-                type = Bullet.BulletType.ACCELERATING;
-            } else {
-                type = Bullet.BulletType.NORMAL;
-            }
-            
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type));
-        }
-    }
-    
-    private void shootMegaSpiral(List<Bullet> bullets) {
-        // Layered spiral with multiple speeds and types
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        double angleOffset = shootTimer * 0.15;
         
-        // Three layers of spirals at different speeds
-        int[] layers = {8, 12, 16};
-        double[] speeds = {2.0, 3.0, 4.0};
-        Bullet.BulletType[] types = {Bullet.BulletType.NORMAL, Bullet.BulletType.SPIRAL, Bullet.BulletType.WAVE};
-        
-        for (int layer = 0; layer < 3; layer++) {
-            int numBullets = layers[layer] + level;
-            double layerOffset = angleOffset * (1 + layer * 0.3);
-            
-            for (int i = 0; i < numBullets; i++) {
-                double angle = (Math.PI * 2 * i / numBullets) + layerOffset;
-                double speed = speeds[layer] * speedMultiplier;
-                double spawnX = x + Math.cos(angle) * size * 1.5;
-                double spawnY = y + Math.sin(angle) * size * 1.5;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, types[layer]));
-            }
-        }
-    }
-    
-    private void shootMegaCross(List<Bullet> bullets, Player player) {
-        // Cross pattern with rotating arms + homing center
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        
-        // Four arms of the cross
-        for (int arm = 0; arm < 4; arm++) {
-            double armAngle = (Math.PI / 2 * arm) + shootTimer * 0.1;
-            int bulletsPerArm = 5 + level / 2;
-            
-            for (int i = 0; i < bulletsPerArm; i++) {
-                double angle = armAngle;
-                double distance = (i + 1) * 0.3;
-                double speed = (2.5 + distance) * speedMultiplier;
-                double spawnX = x + Math.cos(angle) * size * 1.5;
-                double spawnY = y + Math.sin(angle) * size * 1.5;
-                
-                Bullet.BulletType type = (i % 3 == 0) ? Bullet.BulletType.LARGE : Bullet.BulletType.NORMAL;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type));
-            }
-        }
-        
-        // Center cluster of homing bullets
-        for (int i = 0; i < 3 + level / 3; i++) {
-            double angle = angleToPlayer + (Math.random() - 0.5) * 0.8;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 2.5 * speedMultiplier, Math.sin(angle) * 2.5 * speedMultiplier, Bullet.BulletType.HOMING));
-        }
-    }
-    
-    private void shootMegaStar(List<Bullet> bullets) {
-        // Star burst with splitting bullets
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        int numPoints = 6 + level / 3; // 6-9 points
-        
-        for (int point = 0; point < numPoints; point++) {
-            double pointAngle = (Math.PI * 2 * point / numPoints);
-            
-            // Each point shoots multiple bullets outward
-            for (int i = 0; i < 3; i++) {
-                double spread = 0.4;
-                double angle = pointAngle + (i - 2) * (spread / 5);
-                double speed = (2.0 + i * 0.5) * speedMultiplier;
-                double spawnX = x + Math.cos(angle) * size * 1.5;
-                double spawnY = y + Math.sin(angle) * size * 1.5;
-                
-                // Outer bullets split, inner bullets are large
-                Bullet.BulletType type = (i <= 1 || i >= 3) ? Bullet.BulletType.SPLITTING : Bullet.BulletType.LARGE;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, type));
-            }
-        }
-        
-        // Center ring of bombs
-        for (int i = 0; i < 3 + level / 4; i++) {
-            double angle = Math.PI * 2 * i / (4 + level / 3);
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.5 * speedMultiplier, Math.sin(angle) * 1.5 * speedMultiplier, Bullet.BulletType.BOMB));
-        }
-    }
-    
-    private void shootMegaHex(List<Bullet> bullets, Player player) {
-        // Hexagonal formation with wave bullets + grenades
-        double speedMultiplier = Math.min(1.0, 0.4 + (level * 0.12));
-        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-        
-        // Six sides of hexagon
-        for (int side = 0; side < 6; side++) {
-            double sideAngle = (Math.PI / 3 * side) + shootTimer * 0.08;
-            int bulletsPerSide = 4 + level / 2;
-            
-            for (int i = 0; i < bulletsPerSide; i++) {
-                double angle = sideAngle + (i - bulletsPerSide / 2.0) * 0.1;
-                double speed = (2.5 + Math.sin(i * 0.5)) * speedMultiplier;
-                double spawnX = x + Math.cos(angle) * size * 1.5;
-                double spawnY = y + Math.sin(angle) * size * 1.5;
-                bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * speed, Math.sin(angle) * speed, Bullet.BulletType.WAVE));
-            }
-        }
-        
-        // Grenades aimed at player
-        for (int i = 0; i < 2 + level / 3; i++) {
-            double angle = angleToPlayer + (i - 1) * 0.4;
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 3 * speedMultiplier, Math.sin(angle) * 3 * speedMultiplier, Bullet.BulletType.GRENADE));
+        // Mega bosses have special attack patterns
+        if (isMegaBoss && rolls.nextDouble() < 0.25) {
+            // 25% chance to use mega boss special attacks
+            return patterns.getMega((int)(rolls.nextDouble() * patterns.getMegaCount()));
         }
         
-        // Ring of accelerating bullets
-        for (int i = 0; i < 6 + level / 2; i++) {
-            double angle = Math.PI * 2 * i / (10 + level);
-            double spawnX = x + Math.cos(angle) * size * 1.5;
-            double spawnY = y + Math.sin(angle) * size * 1.5;
-            bullets.add(new Bullet(spawnX, spawnY, Math.cos(angle) * 1.8 * speedMultiplier, Math.sin(angle) * 1.8 * speedMultiplier, Bullet.BulletType.ACCELERATING));
-        }
+        // Cycle through unlocked patterns only
+        patternType = (patternType + 1) % maxPatterns;
+        return patterns.getRegular(patternType % patterns.getRegularCount());
     }
     
-    // ========== END MEGA BOSS SPECIAL ATTACKS ==========
-    
     private void spawnBeamAttack(int screenWidth, int screenHeight) {
         // Mega bosses have more intense beam patterns
-        if (isMegaBoss && Math.random() < 0.5) {
+        if (isMegaBoss && rolls.nextDouble() < 0.5) {
             // 50% chance for mega boss special beam patterns
-            int specialBeam = (int)(Math.random() * 3);
+            int specialBeam = (int)(rolls.nextDouble() * 3);
             switch (specialBeam) {
                 case 0: // Cross pattern beams
                     spawnCrossBeams(screenWidth, screenHeight);
@@ -860,13 +455,13 @@ public class Boss {
         }
         
         // Randomly choose between vertical and horizontal beams
-        boolean isVertical = Math.random() < 0.5;
+        boolean isVertical = rolls.nextDouble() < 0.5;
         
         if (isVertical) {
             // Spawn 1-3 vertical beams depending on level
             int numBeams = 1 + (level >= 5 ? 1 : 0) + (level >= 8 ? 1 : 0);
             for (int i = 0; i < numBeams; i++) {
-                double position = screenWidth * (0.2 + Math.random() * 0.6);
+                double position = screenWidth * (0.2 + rolls.nextDouble() * 0.6);
                 double width = 40 + level * 5; // Wider beams at higher levels
                 beamAttacks.add(new BeamAttack(position, width, BeamAttack.BeamType.VERTICAL));
             }
@@ -874,7 +469,7 @@ public class Boss {
             // Spawn 1-3 horizontal beams depending on level
             int numBeams = 1 + (level >= 5 ? 1 : 0) + (level >= 8 ? 1 : 0);
             for (int i = 0; i < numBeams; i++) {
-                double position = screenHeight * (0.3 + Math.random() * 0.5);
+                double position = screenHeight * (0.3 + rolls.nextDouble() * 0.5);
                 double width = 40 + level * 5; // Wider beams at higher levels
                 beamAttacks.add(new BeamAttack(position, width, BeamAttack.BeamType.HORIZONTAL));
             }
@@ -884,8 +479,8 @@ public class Boss {
     private void spawnCrossBeams(int screenWidth, int screenHeight) {
         // One vertical and one horizontal beam forming a cross
         double width = 50 + level * 6;
-        double verticalX = screenWidth * (0.3 + Math.random() * 0.4);
-        double horizontalY = screenHeight * (0.35 + Math.random() * 0.3);
+        double verticalX = screenWidth * (0.3 + rolls.nextDouble() * 0.4);
+        double horizontalY = screenHeight * (0.35 + rolls.nextDouble() * 0.3);
         
         beamAttacks.add(new BeamAttack(verticalX, width, BeamAttack.BeamType.VERTICAL));
         beamAttacks.add(new BeamAttack(horizontalY, width, BeamAttack.BeamType.HORIZONTAL));
@@ -927,7 +522,7 @@ public class Boss {
         return beamAttacks;
     }
     
-    private BufferedImage getCurrentSprite() {
+    private MipChain getCurrentSprite() {
         // Get the currently displayed sprite based on level
         int spriteIndex = ((level - 1) / 2) % 8;
         
@@ -944,14 +539,16 @@ public class Boss {
     }
     
     public void draw(Graphics2D g) {
+        double x = getRenderX();
+        double y = getRenderY();
         Graphics2D g2d = (Graphics2D) g.create();
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Odd levels = fighter planes, Even levels = helicopters
         // Select sprite variant based on level (cycles through 8 variants)
         int spriteIndex = ((level - 1) / 2) % 8;
-        BufferedImage sprite;
-        BufferedImage shadow;
+        MipChain sprite;
+        MipChain shadow;
         
         if (level % 2 == 0) {
             // Even levels: Helicopters (always mega bosses)
@@ -1003,7 +600,7 @@ public class Boss {
                 g2d.rotate(rotation - Math.PI / 2);
                 
                 g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
-                g2d.drawImage(shadow, 
+                g2d.drawImage(shadow.forSize(shadowWidth, shadowHeight), 
                     (int)(-shadowWidth/2 + shadowOffsetX), 
                     (int)(-shadowHeight/2 + shadowOffsetY), 
                     shadowWidth, shadowHeight, null);
@@ -1018,20 +615,20 @@ public class Boss {
             
             boolean isHelicopter = (level % 2 == 0);
             // Draw sprite
-            g2d.drawImage(sprite, -spriteWidth/2, -spriteHeight/2, spriteWidth, spriteHeight, null);
+            g2d.drawImage(sprite.forSize(spriteWidth, spriteHeight), -spriteWidth/2, -spriteHeight/2, spriteWidth, spriteHeight, null);
             
             // Draw spinning helicopter blades if this is a helicopter
             if (isHelicopter && helicopterBlades[0] != null) {
                 // Choose blade sprite based on helicopter variant
                 int bladeIndex = Math.min(spriteIndex / 3, 2); // 0-2, 3-5, 6-7 map to blade 0, 1, 2
-                BufferedImage bladeSprite = helicopterBlades[bladeIndex];
+                MipChain bladeSprite = helicopterBlades[bladeIndex];
                 
                 if (bladeSprite != null) {
                     Graphics2D bladeG2d = (Graphics2D) g2d.create();
                     bladeG2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f)); // Add transparency
                     bladeG2d.rotate(bladeRotation); // Apply blade rotation
                     int bladeSize = (int)(spriteWidth * 1.2); // Blades slightly larger than body
-                    bladeG2d.drawImage(bladeSprite, -bladeSize/2, -bladeSize/2, bladeSize, bladeSize, null);
+                    bladeG2d.drawImage(bladeSprite.forSize(bladeSize, bladeSize), -bladeSize/2, -bladeSize/2, bladeSize, bladeSize, null);
                     bladeG2d.dispose();
                 }
             }
@@ -1139,11 +736,58 @@ public class Boss {
         return currentHealth <= 0;
     }
     
+    // Draws every roll this boss makes from a fixed sequence, so the fight replays the same moves,
+    // pattern picks, beams and bullet spreads each time (used by AllocationGuard)
+    void seedRolls(long seed) {
+        rolls = new Random(seed);
+        patternType = (int)(rolls.nextDouble() * maxPatterns);
+        beamAttackTimer = 120 + (int)(rolls.nextDouble() * 60);
+        moveTimer = 0;
+    }
+    
+    public Snapshot captureSnapshot() {
+        return new Snapshot(this);
+    }
+    
+    // Return to a captured state (the snapshot must come from a boss of the same level)
+    public void restoreSnapshot(Snapshot snapshot) {
+        x = prevX = snapshot.x;
+        y = prevY = snapshot.y;
+        vx = 0;
+        vy = 0;
+        ax = 0;
+        ay = 0;
+        rotation = snapshot.rotation;
+        targetRotation = snapshot.rotation;
+        angularVelocity = 0;
+        bladeRotation = snapshot.bladeRotation;
+        shootTimer = snapshot.shootTimer;
+        volleys = snapshot.volleys;
+        patternType = snapshot.patternType;
+        targetX = x;
+        targetY = y;
+        moveTimer = 0;
+        beamAttacks.clear();
+        beamAttackTimer = snapshot.beamAttackTimer;
+        currentHealth = maxHealth;
+        currentPhase = 0;
+        phaseTransitioning = false;
+        phaseTransitionTimer = 0;
+    }
+    
+    // Render interpolation, as for the player
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
+    }
+    public double getRenderX() { return prevX + (x - prevX) * Game.renderAlpha; }
+    public double getRenderY() { return prevY + (y - prevY) * Game.renderAlpha; }
+    
     public double getX() { return x; }
     public double getY() { return y; }
     public void setPosition(double x, double y) { 
-        this.x = x; 
-        this.y = y; 
+        this.x = this.prevX = x; 
+        this.y = this.prevY = y; 
     }
     public int getSize() { return size; }
     public double getHitboxRadius() { return size * 0.6; } // 60% of sprite size for fitting hitbox
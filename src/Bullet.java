@@ -1,11 +1,10 @@
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import java.util.List;
 
 public class Bullet {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the tick, for render interpolation
     private double vx, vy;
     private static final int SIZE = 6;
     private BulletType type;
@@ -16,14 +15,12 @@ public class Bullet {
     private static final double SHADOW_SCALE = 0.7; // Shadow is 70% scale of sprite
     
     // Bullet sprites
-    private static BufferedImage[] bulletSprites = new BufferedImage[17];
-    private static BufferedImage[] bulletShadows = new BufferedImage[17];
+    private static MipChain[] bulletSprites = new MipChain[17];
+    private static MipChain[] bulletShadows = new MipChain[17];
+    private static final int MAX_DRAW_SIZE = SIZE * 7; // Largest sprite size in draw() (nuke)
     private static boolean spritesLoaded = false;
     
     // Cached colors for performance
-    private static final Color FIRE_ORANGE = new Color(255, 100, 0);
-    private static final Color FIRE_YELLOW = new Color(255, 200, 0);
-    private static final Color FIRE_RED = new Color(255, 50, 0);
     private static final Color TRAIL_YELLOW = new Color(255, 220, 0, 180);
     private static final Color TRAIL_PURPLE = new Color(200, 50, 255, 180);
     
@@ -37,10 +34,12 @@ public class Bullet {
     private boolean hasSplit; // For splitting bullets
     private double explosionTimer; // Time until explosion for bombs
     private static final double EXPLOSION_TIME = 120; // Frames until explosion
+    private static final double EXPLOSIVE_SLOWDOWN = 0.97; // 3% slowdown per frame
     private static final double FLICKER_START = 30; // Start flickering 30 frames before explosion
     private int spriteVariant; // Which variant (0-2) for bombs/grenades
     private int bounceCount; // Number of times bounced
     private boolean hasGrazed; // Track if bullet has been grazed by player
+    private double hitRadius; // Hitbox radius, much smaller than the sprite
     private static final int MAX_BOUNCES = 1; // Max bounces for bouncing bullets
     private static final double HOMING_LIFETIME = 480; // 8 seconds lifetime for homing bullets
     
@@ -65,8 +64,8 @@ public class Bullet {
     }
     
     public Bullet(double x, double y, double vx, double vy, BulletType type) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
         this.vx = vx;
         this.vy = vy;
         this.type = type;
@@ -78,76 +77,75 @@ public class Bullet {
         this.spriteVariant = (int)(Math.random() * 3); // Random variant 0-2
         this.bounceCount = 0;
         this.hasGrazed = false;
+        this.hitRadius = defaultHitRadius(type);
         loadSprites();
     }
     
     private static void loadSprites() {
         if (spritesLoaded) return;
-        try {
-            // Load all bullet sprites
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj 1 Purple.png", 1);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj 2 Purple.png", 4);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj Blue 1.png", 2);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj Blue 2.png", 3);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj Blue 3.png", 5);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj Orange 1.png", 0);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj Orange 2.png", 6);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Proj Red 1.png", 7);
-            
-            // Load explosive projectiles (bombs, grenades, nuke)
-            loadSpriteWithPathAndShadow("sprites/Missle Man Assets/Projectiles/Bomb 1.png", 
-                                        "sprites/Missle Man Assets/Projectiles/Bomb 1 Shadow.png", 8);
-            loadSpriteWithPathAndShadow("sprites/Missle Man Assets/Projectiles/Bomb 2.png",
-                                        "sprites/Missle Man Assets/Projectiles/Bomb 2 Shadow.png", 9);
-            
-            loadSpriteWithPathAndShadow("sprites/Missle Man Assets/Projectiles/Grenade 1.png",
-                                        "sprites/Missle Man Assets/Projectiles/Grenade 1 Shadow.png", 10);
-            loadSpriteWithPathAndShadow("sprites/Missle Man Assets/Projectiles/Grenade 2.png",
-                                        "sprites/Missle Man Assets/Projectiles/Grenade 2 Shadow.png", 11);
-            loadSpriteWithPathAndShadow("sprites/Missle Man Assets/Projectiles/Grenade 3.png",
-                                        "sprites/Missle Man Assets/Projectiles/Grenade 3 Shadow.png", 12);
-            
-            loadSpriteWithPathAndShadow("sprites/Missle Man Assets/Projectiles/Mini Nuke.png",
-                                        "sprites/Missle Man Assets/Projectiles/Mini Nuke Shadow.png", 13);
-            
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Fragment Proj 1.png", 14);
-            loadSpriteWithPath("sprites/Missle Man Assets/Projectiles/Fragment Proj 2.png", 15);
-            
-            spritesLoaded = true;
-        } catch (IOException e) {
-            System.err.println("Failed to load bullet sprites: " + e.getMessage());
-            spritesLoaded = false;
-        }
+        // Normally preloaded by the startup AssetLoader; this only runs if a Bullet is built before that
+        AssetLoader loader = new AssetLoader(null);
+        queueSprites(loader);
+        loader.awaitAll();
+        finishSpriteLoading();
     }
     
-    private static void loadSpriteWithPath(String path, int index) throws IOException {
-        try {
-            bulletSprites[index] = ImageIO.read(new File(path));
-        } catch (IOException e) {
-            System.err.println("Could not load bullet sprite: " + path);
-            throw e;
-        }
+    // Register every projectile sprite (and shadows for explosives) with the startup loader
+    public static void queueSprites(AssetLoader loader) {
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj 1 Purple", 1);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj 2 Purple", 4);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj Blue 1", 2);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj Blue 2", 3);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj Blue 3", 5);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj Orange 1", 0);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj Orange 2", 6);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Proj Red 1", 7);
+        
+        // Explosive projectiles (bombs, grenades, nuke)
+        queueSpriteWithShadow(loader, "Missle Man Assets/Projectiles/Bomb 1",
+                              "Missle Man Assets/Projectiles/Bomb 1 Shadow", 8);
+        queueSpriteWithShadow(loader, "Missle Man Assets/Projectiles/Bomb 2",
+                              "Missle Man Assets/Projectiles/Bomb 2 Shadow", 9);
+        queueSpriteWithShadow(loader, "Missle Man Assets/Projectiles/Grenade 1",
+                              "Missle Man Assets/Projectiles/Grenade 1 Shadow", 10);
+        queueSpriteWithShadow(loader, "Missle Man Assets/Projectiles/Grenade 2",
+                              "Missle Man Assets/Projectiles/Grenade 2 Shadow", 11);
+        queueSpriteWithShadow(loader, "Missle Man Assets/Projectiles/Grenade 3",
+                              "Missle Man Assets/Projectiles/Grenade 3 Shadow", 12);
+        queueSpriteWithShadow(loader, "Missle Man Assets/Projectiles/Mini Nuke",
+                              "Missle Man Assets/Projectiles/Mini Nuke Shadow", 13);
+        
+        queueSprite(loader, "Missle Man Assets/Projectiles/Fragment Proj 1", 14);
+        queueSprite(loader, "Missle Man Assets/Projectiles/Fragment Proj 2", 15);
     }
     
-    private static void loadSpriteWithPathAndShadow(String spritePath, String shadowPath, int index) throws IOException {
-        try {
-            bulletSprites[index] = ImageIO.read(new File(spritePath));
-        } catch (IOException e) {
-            System.err.println("Could not load bullet sprite: " + spritePath);
-            throw e;
-        }
-        try {
-            bulletShadows[index] = ImageIO.read(new File(shadowPath));
-        } catch (IOException e) {
-            System.err.println("Could not load bullet shadow: " + shadowPath);
-            throw e;
-        }
+    public static void finishSpriteLoading() {
+        spritesLoaded = true;
+    }
+    
+    private static void queueSprite(AssetLoader loader, String id, int index) {
+        loader.submit(id, () -> {
+            bulletSprites[index] = AssetManager.acquireMipChain(AssetManager.Group.BULLETS, id, MAX_DRAW_SIZE, false);
+            if (bulletSprites[index] == null) {
+                System.err.println("Could not load bullet sprite: " + id);
+            }
+        });
+    }
+    
+    private static void queueSpriteWithShadow(AssetLoader loader, String spriteId, String shadowId, int index) {
+        queueSprite(loader, spriteId, index);
+        loader.submit(shadowId, () -> {
+            bulletShadows[index] = AssetManager.acquireMipChain(AssetManager.Group.BULLETS, shadowId, MAX_DRAW_SIZE, false);
+            if (bulletShadows[index] == null) {
+                System.err.println("Could not load bullet shadow: " + shadowId);
+            }
+        });
     }
     
     // Reset bullet for pooling
     public void reset(double x, double y, double vx, double vy, BulletType type) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
         this.vx = vx;
         this.vy = vy;
         this.type = type;
@@ -158,105 +156,171 @@ public class Bullet {
         this.explosionTimer = EXPLOSION_TIME;
         this.spriteVariant = (int)(Math.random() * 3);
         this.bounceCount = 0;
+        this.hasGrazed = false;
+        this.hitRadius = defaultHitRadius(type);
     }
     
-    public void update() {
-        update(null, 0, 0, 1.0);
+    // Shorten the warning phase by ticks already spent waiting in the SpawnScheduler
+    public void skipWarning(int ticks) {
+        warningTime = Math.max(0, warningTime - ticks);
     }
     
-    public void update(Player player, int screenWidth, int screenHeight) {
-        update(player, screenWidth, screenHeight, 1.0);
+    public void setSpriteVariant(int spriteVariant) {
+        this.spriteVariant = spriteVariant;
     }
     
-    public void update(Player player, int screenWidth, int screenHeight, double deltaTime) {
-        if (warningTime > 0) {
-            warningTime -= deltaTime;
-            return;
-        }
-        
-        age += deltaTime;
-        
-        // Type-specific behavior
+    // Advance bullets[from, to) - all of the given type - by one tick, after scaling their velocity
+    // by slowFactor (bullet slow upgrade / time slow item). Each kind of motion has its own loop, so
+    // the JIT compiles a single behaviour per loop instead of a type switch per bullet; the linear
+    // types get a bare integrate loop. BulletBuckets keeps the live list grouped into such runs.
+    static void updateRun(BulletType type, List<Bullet> bullets, int from, int to, double slowFactor,
+                          Player player, int screenWidth, int screenHeight, double deltaTime) {
         switch (type) {
-            case FAST:
-                // Already faster from initial velocity
-                break;
             case HOMING:
-                if (player != null) {
-                    // Slightly adjust direction towards player
-                    double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
-                    double currentAngle = Math.atan2(vy, vx);
-                    double angleDiff = angleToPlayer - currentAngle;
-                    // Normalize angle
-                    while (angleDiff > Math.PI) angleDiff -= 2 * Math.PI;
-                    while (angleDiff < -Math.PI) angleDiff += 2 * Math.PI;
-                    // Turn slightly towards player (scaled by delta time)
-                    currentAngle += angleDiff * 0.02 * deltaTime;
-                    double speed = Math.sqrt(vx * vx + vy * vy);
-                    vx = Math.cos(currentAngle) * speed;
-                    vy = Math.sin(currentAngle) * speed;
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.steerTowards(player, deltaTime);
+                        bullet.move(deltaTime);
+                    }
                 }
                 break;
             case BOUNCING:
-                // Bounce off walls (only once)
-                if (bounceCount < MAX_BOUNCES) {
-                    if (x < 10 || x > screenWidth - 10) {
-                        vx *= -1;
-                        bounceCount++;
-                    }
-                    if (y < 10 || y > screenHeight - 10) {
-                        vy *= -1;
-                        bounceCount++;
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.bounce(screenWidth, screenHeight);
+                        bullet.move(deltaTime);
                     }
                 }
                 break;
             case SPIRAL:
-                // Rotate velocity vector to create spiral motion
-                spiralAngle += 0.08;
-                double currentSpeed = Math.sqrt(vx * vx + vy * vy);
-                double baseAngle = Math.atan2(vy, vx);
-                vx = Math.cos(baseAngle + Math.sin(spiralAngle) * 0.5) * currentSpeed;
-                vy = Math.sin(baseAngle + Math.sin(spiralAngle) * 0.5) * currentSpeed;
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.spiral();
+                        bullet.move(deltaTime);
+                    }
+                }
                 break;
             case ACCELERATING:
-                // Speed up over time
-                double accelFactor = 1 + (age * 0.01);
-                vx *= Math.min(accelFactor, 1.05);
-                vy *= Math.min(accelFactor, 1.05);
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.accelerate();
+                        bullet.move(deltaTime);
+                    }
+                }
                 break;
             case WAVE:
-                // Move in sine wave pattern
-                double perpAngle = Math.atan2(vy, vx) + HALF_PI;
-                double waveOffset = Math.sin(age * 0.2) * 2 * deltaTime;
-                x += Math.cos(perpAngle) * waveOffset;
-                y += Math.sin(perpAngle) * waveOffset;
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.wave(deltaTime);
+                        bullet.move(deltaTime);
+                    }
+                }
                 break;
             case BOMB:
             case GRENADE:
             case NUKE:
-                // Slow down over time
-                double slowFactor = 0.97; // 3% slowdown per frame
-                vx *= Math.pow(slowFactor, deltaTime);
-                vy *= Math.pow(slowFactor, deltaTime);
-                
-                // Count down to explosion
-                explosionTimer -= deltaTime;
-                break;
-            case FRAGMENT:
-                // Fragments just fly straight
+                double decay = Math.pow(EXPLOSIVE_SLOWDOWN, deltaTime);
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.slowDown(decay, deltaTime);
+                        bullet.move(deltaTime);
+                    }
+                }
                 break;
             default:
+                for (int i = from; i < to; i++) {
+                    Bullet bullet = bullets.get(i);
+                    if (bullet.beginTick(slowFactor, deltaTime)) {
+                        bullet.move(deltaTime);
+                    }
+                }
                 break;
         }
-        
-        // Move bullet (scaled by delta time)
+    }
+    
+    // Apply slowdown and run down the warning phase; true once the bullet is live and moving
+    private boolean beginTick(double slowFactor, double deltaTime) {
+        vx *= slowFactor;
+        vy *= slowFactor;
+        if (warningTime > 0) {
+            warningTime -= deltaTime;
+            return false;
+        }
+        age += deltaTime;
+        return true;
+    }
+    
+    // Move bullet (scaled by delta time)
+    private void move(double deltaTime) {
         x += vx * deltaTime;
         y += vy * deltaTime;
     }
     
-    public void applySlow(double factor) {
-        vx *= factor;
-        vy *= factor;
+    private void steerTowards(Player player, double deltaTime) {
+        if (player == null) return;
+        // Slightly adjust direction towards player
+        double angleToPlayer = Math.atan2(player.getY() - y, player.getX() - x);
+        double currentAngle = Math.atan2(vy, vx);
+        double angleDiff = angleToPlayer - currentAngle;
+        // Normalize angle
+        while (angleDiff > Math.PI) angleDiff -= 2 * Math.PI;
+        while (angleDiff < -Math.PI) angleDiff += 2 * Math.PI;
+        // Turn slightly towards player (scaled by delta time)
+        currentAngle += angleDiff * 0.02 * deltaTime;
+        double speed = Math.sqrt(vx * vx + vy * vy);
+        vx = Math.cos(currentAngle) * speed;
+        vy = Math.sin(currentAngle) * speed;
+    }
+    
+    private void bounce(int screenWidth, int screenHeight) {
+        // Bounce off walls (only once)
+        if (bounceCount < MAX_BOUNCES) {
+            if (x < 10 || x > screenWidth - 10) {
+                vx *= -1;
+                bounceCount++;
+            }
+            if (y < 10 || y > screenHeight - 10) {
+                vy *= -1;
+                bounceCount++;
+            }
+        }
+    }
+    
+    private void spiral() {
+        // Rotate velocity vector to create spiral motion
+        spiralAngle += 0.08;
+        double currentSpeed = Math.sqrt(vx * vx + vy * vy);
+        double baseAngle = Math.atan2(vy, vx);
+        vx = Math.cos(baseAngle + Math.sin(spiralAngle) * 0.5) * currentSpeed;
+        vy = Math.sin(baseAngle + Math.sin(spiralAngle) * 0.5) * currentSpeed;
+    }
+    
+    private void accelerate() {
+        // Speed up over time
+        double accelFactor = 1 + (age * 0.01);
+        vx *= Math.min(accelFactor, 1.05);
+        vy *= Math.min(accelFactor, 1.05);
+    }
+    
+    private void wave(double deltaTime) {
+        // Move in sine wave pattern
+        double perpAngle = Math.atan2(vy, vx) + HALF_PI;
+        double waveOffset = Math.sin(age * 0.2) * 2 * deltaTime;
+        x += Math.cos(perpAngle) * waveOffset;
+        y += Math.sin(perpAngle) * waveOffset;
+    }
+    
+    // Explosives slow down (decay = EXPLOSIVE_SLOWDOWN^deltaTime) and count down to detonation
+    private void slowDown(double decay, double deltaTime) {
+        vx *= decay;
+        vy *= decay;
+        explosionTimer -= deltaTime;
     }
     
     public boolean shouldSpawnTrail() {
@@ -279,59 +343,8 @@ public class Bullet {
                && explosionTimer <= 0;
     }
     
-    public java.util.List<Particle> createExplosionParticles() {
-        java.util.List<Particle> explosionParticles = new java.util.ArrayList<>();
-        
-        // Number of particles and rings based on type
-        int particleCount = 15;
-        int rings = 2;
-        if (type == BulletType.NUKE) {
-            particleCount = 40;
-            rings = 4;
-        } else if (type == BulletType.GRENADE) {
-            particleCount = 25;
-            rings = 3;
-        }
-        
-        // Fire particles
-        for (int i = 0; i < particleCount; i++) {
-            double angle = Math.random() * TWO_PI;
-            double speed = 1 + Math.random() * 4;
-            Color fireColor;
-            double rand = Math.random();
-            if (rand < 0.4) {
-                fireColor = FIRE_ORANGE;
-            } else if (rand < 0.7) {
-                fireColor = FIRE_YELLOW;
-            } else {
-                fireColor = FIRE_RED;
-            }
-            explosionParticles.add(new Particle(
-                x, y,
-                Math.cos(angle) * speed, Math.sin(angle) * speed,
-                fireColor, 30, 5,
-                Particle.ParticleType.SPARK
-            ));
-        }
-        
-        // Shockwave rings
-        for (int i = 0; i < rings; i++) {
-            int baseSize = (type == BulletType.NUKE) ? 60 : (type == BulletType.GRENADE) ? 40 : 30;
-            explosionParticles.add(new Particle(
-                x, y, 0, 0,
-                new Color(255, 150 - i * 30, 0, 200 - i * 50), 
-                35 + i * 10, 
-                baseSize + i * 20,
-                Particle.ParticleType.EXPLOSION
-            ));
-        }
-        
-        return explosionParticles;
-    }
-    
-    public java.util.List<Bullet> createFragments() {
-        java.util.List<Bullet> fragments = new java.util.ArrayList<>();
-        
+    // Queue this explosive's fragments with the spawner; returns how many
+    public int spawnFragments(SpawnScheduler spawner) {
         // Number of fragments based on type
         int fragmentCount = 8;
         if (type == BulletType.NUKE) fragmentCount = 16;
@@ -342,18 +355,20 @@ public class Bullet {
             double angle = (TWO_PI * i) / fragmentCount;
             double speed = 2.0 + Math.random() * 1.5;
             int fragmentSprite = (i % 2 == 0) ? 14 : 15; // Alternate between Fragment Proj 1 & 2
-            Bullet fragment = new Bullet(x, y, 
+            spawner.spawn(x, y, 
                 Math.cos(angle) * speed, 
                 Math.sin(angle) * speed, 
-                BulletType.FRAGMENT);
-            fragment.spriteVariant = fragmentSprite - 14; // 0 or 1
-            fragments.add(fragment);
+                BulletType.FRAGMENT,
+                fragmentSprite - 14); // 0 or 1
         }
         
-        return fragments;
+        return fragmentCount;
     }
     
     public void draw(Graphics2D g) {
+        double x = getRenderX();
+        double y = getRenderY();
+        
         // Draw warning indicator during warning phase
         if (warningTime > 0) {
             float alpha = Math.min(0.5f, (float)(warningTime % 20) / 20.0f + 0.2f);
@@ -458,7 +473,7 @@ public class Bullet {
                 g2d.rotate(objectRotation);
                 
                 // Check if we have a dedicated shadow sprite for this bullet
-                BufferedImage shadowSprite = bulletShadows[spriteIndex];
+                MipChain shadowSprite = bulletShadows[spriteIndex];
                 if (shadowSprite != null) {
                     // Draw sprite shadow with proper dimensions
                     int nativeShadowWidth = shadowSprite.getWidth();
@@ -468,7 +483,7 @@ public class Bullet {
                     int drawShadowHeight = (int)(nativeShadowHeight * shadowScale);
                     
                     g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f * flickerAlpha));
-                    g2d.drawImage(shadowSprite,
+                    g2d.drawImage(shadowSprite.forSize(drawShadowWidth, drawShadowHeight),
                         (int)(-drawShadowWidth/2 + shadowOffsetX),
                         (int)(-drawShadowHeight/2 + shadowOffsetY),
                         drawShadowWidth, drawShadowHeight, null);
@@ -501,7 +516,7 @@ public class Bullet {
             int drawHeight = (int)(nativeHeight * scale);
             
             // Draw sprite centered with proportional dimensions
-            g2d.drawImage(bulletSprites[spriteIndex], 
+            g2d.drawImage(bulletSprites[spriteIndex].forSize(drawWidth, drawHeight), 
                 -drawWidth/2, -drawHeight/2, 
                 drawWidth, drawHeight, null);
             
@@ -585,9 +600,21 @@ public class Bullet {
         double dx = x - player.getX();
         double dy = y - player.getY();
         double distance = Math.sqrt(dx * dx + dy * dy);
-        // Smaller hitbox (30% of sprite size)
+        return distance < hitRadius + (player.getSize() * 0.3);
+    }
+    
+    public double getHitRadius() {
+        return hitRadius;
+    }
+    
+    // Grow or shrink the hitbox until the next reset; only BulletGridBenchmark uses this so far
+    void scaleHitRadius(double factor) {
+        hitRadius *= factor;
+    }
+    
+    private static double defaultHitRadius(BulletType type) {
         int actualSize = (type == BulletType.LARGE) ? SIZE + 4 : (type == BulletType.FAST) ? SIZE - 2 : SIZE;
-        return distance < (actualSize * 0.5) + (player.getSize() * 0.3);
+        return actualSize * 0.5;
     }
     
     public boolean shouldSplit() {
@@ -598,10 +625,21 @@ public class Bullet {
         hasSplit = true;
     }
     
+    // Remember where this tick starts; drawing blends from here to the current position
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    // Position to draw at, part way through the current tick (see Game.renderAlpha)
+    public double getRenderX() { return prevX + (x - prevX) * Game.renderAlpha; }
+    public double getRenderY() { return prevY + (y - prevY) * Game.renderAlpha; }
+    
     public double getX() { return x; }
     public double getY() { return y; }
     public double getVX() { return vx; }
     public double getVY() { return vy; }
+    public BulletType getType() { return type; }
     
     public boolean hasGrazed() { return hasGrazed; }
     public void setGrazed(boolean grazed) { this.hasGrazed = grazed; }
@@ -0,0 +1,118 @@
+import java.util.Arrays;
+import java.util.List;
+
+// Keeps the live bullet list grouped by type so each type is updated by its own loop
+// (Bullet.updateRun). Patterns like MegaBarrage interleave types randomly; updating them in spawn
+// order means a different behaviour on every bullet, which defeats branch prediction and keeps
+// the JIT from specialising. Grouping is a stable counting sort by type, done in place on the list
+// and only when something arrived out of order, so the other users of the list (grid, renderer,
+// items) don't change. Bullets of one type keep their relative order.
+//
+// Moving a bullet touches nothing but that bullet, so above ParallelUpdater.THRESHOLD the runs are
+// split into chunks across cores. The same pass records what each bullet needs next (trail,
+// explosion, split, removal) as flags by index; Game acts on them serially in index order, which
+// keeps spawning, events and random numbers exactly as on one thread.
+public class BulletBuckets {
+    // Per-bullet results of the last update (see getFlags)
+    public static final byte TRAIL = 1;      // Eligible for a trail particle
+    public static final byte EXPLODE = 2;    // Explosive whose timer ran out
+    public static final byte SPLIT = 4;      // Splitting bullet due to split
+    public static final byte OFF_SCREEN = 8; // Past the margin (or expired)
+
+    private static final Bullet.BulletType[] TYPES = Bullet.BulletType.values();
+
+    private final int[] runStart = new int[TYPES.length + 1]; // Type t occupies [runStart[t], runStart[t + 1])
+    private final int[] cursor = new int[TYPES.length];
+    private Bullet[] scratch = new Bullet[256];
+    private byte[] flags = new byte[256];
+    private final ParallelUpdater.RangeAction rangeAction = this::updateRange;
+
+    // Parameters of the update in progress, read by updateRange
+    private List<Bullet> bullets;
+    private double slowFactor;
+    private Player player;
+    private int screenWidth, screenHeight;
+    private double deltaTime;
+
+    // Group the list by type, advance every bullet one tick and record its flags
+    public void update(List<Bullet> bullets, double slowFactor, Player player, int screenWidth, int screenHeight, double deltaTime) {
+        group(bullets);
+        int n = bullets.size();
+        if (n > flags.length) {
+            flags = new byte[Math.max(n, flags.length * 2)];
+        }
+        this.bullets = bullets;
+        this.slowFactor = slowFactor;
+        this.player = player;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.deltaTime = deltaTime;
+        if (ParallelUpdater.shouldSplit(n)) {
+            ParallelUpdater.forEachChunk(n, rangeAction);
+        } else {
+            updateRange(0, n);
+        }
+        this.bullets = null;
+        this.player = null;
+    }
+
+    // Flags for bullet i from the last update; only valid for indices that existed then
+    public byte[] getFlags() {
+        return flags;
+    }
+
+    // Move bullets [from, to) - possibly spanning several type runs - and record their flags
+    private void updateRange(int from, int to) {
+        int start = from;
+        for (int t = 0; t < TYPES.length && start < to; t++) {
+            int runEnd = Math.min(to, runStart[t + 1]);
+            if (start < runEnd) {
+                Bullet.updateRun(TYPES[t], bullets, start, runEnd, slowFactor, player, screenWidth, screenHeight, deltaTime);
+                start = runEnd;
+            }
+        }
+        for (int i = from; i < to; i++) {
+            Bullet bullet = bullets.get(i);
+            int f = 0;
+            if (bullet.shouldSpawnTrail()) f |= TRAIL;
+            if (bullet.shouldExplode()) {
+                f |= EXPLODE; // Replaced by its fragments; nothing else applies
+            } else {
+                if (bullet.shouldSplit()) f |= SPLIT;
+                if (bullet.isOffScreen(screenWidth, screenHeight)) f |= OFF_SCREEN;
+            }
+            flags[i] = (byte)f;
+        }
+    }
+
+    // Reorder the list into one run per type and record where each run starts
+    public void group(List<Bullet> bullets) {
+        int n = bullets.size();
+        Arrays.fill(runStart, 0);
+        boolean grouped = true;
+        int previous = 0;
+        for (int i = 0; i < n; i++) {
+            int t = bullets.get(i).getType().ordinal();
+            runStart[t + 1]++;
+            grouped &= t >= previous;
+            previous = t;
+        }
+        for (int t = 0; t < TYPES.length; t++) {
+            runStart[t + 1] += runStart[t];
+        }
+        if (grouped) return;
+
+        if (n > scratch.length) {
+            scratch = new Bullet[Math.max(n, scratch.length * 2)];
+        }
+        System.arraycopy(runStart, 0, cursor, 0, TYPES.length);
+        for (int i = 0; i < n; i++) {
+            Bullet bullet = bullets.get(i);
+            scratch[cursor[bullet.getType().ordinal()]++] = bullet;
+        }
+        for (int i = 0; i < n; i++) {
+            bullets.set(i, scratch[i]);
+            scratch[i] = null;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+import java.util.Arrays;
+import java.util.List;
+
+// Broadphase for "which bullets touch this shape" - a circle, a capsule (a segment with a radius,
+// e.g. a beam) or an axis-aligned rectangle. Each bullet counts as its hit circle (Bullet.getHitRadius),
+// not as a point, so callers never pad queries for the biggest projectile.
+//
+// Bullets of very different sizes live in separate loose grids: level k has cells of
+// baseCellSize * 2^k and takes bullets with a radius up to half its cell size, keyed by centre.
+// A query widens its shape by the largest radius actually present on each level, so a big bullet
+// poking into the shape from a neighbouring cell is never missed, while the fine level - where
+// nearly every bullet lives - is only widened by a few pixels. Bullets too big for the coarsest
+// level still go there and simply widen its queries more.
+//
+// Each level is rebuilt once per tick with a counting sort into flat arrays: cell c holds
+// items[cellStart[c] .. + cellCount[c]], so rebuilding allocates nothing once the arrays have grown
+// to the bullet count. Positions outside the grid clamp to the border cells and queries clamp the
+// same way, so bullets drifting past the margin are still found.
+public class BulletGrid {
+    private static final int LEVELS = 3;
+
+    private static final class Level {
+        final double cellSize;
+        final double inverseCellSize;
+        final double radiusLimit; // Bullets up to this radius belong here
+        final int columns, rows;
+        final int[] cellStart;
+        final int[] cellCount;
+        Bullet[] items = new Bullet[64];
+        int size;
+        double maxRadius; // Largest radius indexed in the last rebuild
+
+        Level(double cellSize, int width, int height, int margin) {
+            this.cellSize = cellSize;
+            this.inverseCellSize = 1.0 / cellSize;
+            this.radiusLimit = cellSize / 2;
+            this.columns = Math.max(1, (int)Math.ceil((width + 2.0 * margin) / cellSize));
+            this.rows = Math.max(1, (int)Math.ceil((height + 2.0 * margin) / cellSize));
+            this.cellStart = new int[columns * rows];
+            this.cellCount = new int[columns * rows];
+        }
+    }
+
+    private final double originX, originY;
+    private final Level[] levels = new Level[LEVELS];
+    private Bullet[] staging = new Bullet[256]; // Bullets in list order during a rebuild
+    private int[] stagingLevels = new int[256];
+    private int[] stagingCells = new int[256];
+
+    // Covers width x height plus margin on every side (bullets are dropped once past the margin)
+    public BulletGrid(double baseCellSize, int width, int height, int margin) {
+        this.originX = -margin;
+        this.originY = -margin;
+        for (int k = 0; k < LEVELS; k++) {
+            levels[k] = new Level(baseCellSize * (1 << k), width, height, margin);
+        }
+    }
+
+    // Index every bullet in the list (active or still in its warning phase)
+    public void rebuild(List<Bullet> bullets) {
+        int n = bullets.size();
+        if (n > staging.length) {
+            int capacity = Math.max(n, staging.length * 2);
+            staging = new Bullet[capacity];
+            stagingLevels = new int[capacity];
+            stagingCells = new int[capacity];
+        }
+        for (Level level : levels) {
+            Arrays.fill(level.cellCount, 0);
+            level.size = 0;
+            level.maxRadius = 0;
+        }
+
+        for (int i = 0; i < n; i++) {
+            Bullet bullet = bullets.get(i);
+            double radius = bullet.getHitRadius();
+            int k = 0;
+            while (k < LEVELS - 1 && radius > levels[k].radiusLimit) {
+                k++;
+            }
+            Level level = levels[k];
+            int cell = row(level, bullet.getY()) * level.columns + column(level, bullet.getX());
+            staging[i] = bullet;
+            stagingLevels[i] = k;
+            stagingCells[i] = cell;
+            level.cellCount[cell]++;
+            level.size++;
+            level.maxRadius = Math.max(level.maxRadius, radius);
+        }
+
+        for (Level level : levels) {
+            if (level.size > level.items.length) {
+                level.items = new Bullet[Math.max(level.size, level.items.length * 2)];
+            }
+            int start = 0;
+            for (int cell = 0; cell < level.cellStart.length; cell++) {
+                level.cellStart[cell] = start;
+                start += level.cellCount[cell];
+                level.cellCount[cell] = 0; // Refilled below as the write cursor
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            Level level = levels[stagingLevels[i]];
+            int cell = stagingCells[i];
+            level.items[level.cellStart[cell] + level.cellCount[cell]++] = staging[i];
+        }
+    }
+
+    // Drop a bullet that left the game after the rebuild (it must not have moved since)
+    public boolean remove(Bullet bullet) {
+        for (Level level : levels) {
+            int cell = row(level, bullet.getY()) * level.columns + column(level, bullet.getX());
+            int start = level.cellStart[cell];
+            int last = start + level.cellCount[cell] - 1;
+            for (int i = start; i <= last; i++) {
+                if (level.items[i] == bullet) {
+                    level.items[i] = level.items[last];
+                    level.cellCount[cell]--;
+                    level.size--;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Bullets whose hit circle overlaps the circle at (x, y), appended to out
+    public void queryRadius(double x, double y, double radius, List<Bullet> out) {
+        for (Level level : levels) {
+            if (level.size == 0) continue;
+            double reach = radius + level.maxRadius;
+            int firstRow = row(level, y - reach), lastRow = row(level, y + reach);
+            int firstColumn = column(level, x - reach), lastColumn = column(level, x + reach);
+            for (int r = firstRow; r <= lastRow; r++) {
+                for (int c = firstColumn; c <= lastColumn; c++) {
+                    int cell = r * level.columns + c;
+                    int end = level.cellStart[cell] + level.cellCount[cell];
+                    for (int i = level.cellStart[cell]; i < end; i++) {
+                        Bullet bullet = level.items[i];
+                        double dx = bullet.getX() - x;
+                        double dy = bullet.getY() - y;
+                        double touch = radius + bullet.getHitRadius();
+                        if (dx * dx + dy * dy <= touch * touch) {
+                            out.add(bullet);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Bullets whose hit circle overlaps the rectangle, appended to out
+    public void queryRect(double minX, double minY, double maxX, double maxY, List<Bullet> out) {
+        for (Level level : levels) {
+            if (level.size == 0) continue;
+            double reach = level.maxRadius;
+            int lastRow = row(level, maxY + reach), lastColumn = column(level, maxX + reach);
+            for (int r = row(level, minY - reach); r <= lastRow; r++) {
+                for (int c = column(level, minX - reach); c <= lastColumn; c++) {
+                    int cell = r * level.columns + c;
+                    int end = level.cellStart[cell] + level.cellCount[cell];
+                    for (int i = level.cellStart[cell]; i < end; i++) {
+                        Bullet bullet = level.items[i];
+                        // Distance from the centre to the nearest point of the rectangle
+                        double dx = Math.max(minX - bullet.getX(), Math.max(0, bullet.getX() - maxX));
+                        double dy = Math.max(minY - bullet.getY(), Math.max(0, bullet.getY() - maxY));
+                        double bulletRadius = bullet.getHitRadius();
+                        if (dx * dx + dy * dy <= bulletRadius * bulletRadius) {
+                            out.add(bullet);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Bullets whose hit circle overlaps the capsule around (x1, y1)-(x2, y2), appended to out.
+    // Each row only visits the columns the capsule crosses in that row, so a long diagonal beam
+    // doesn't scan its whole bounding box.
+    public void querySegment(double x1, double y1, double x2, double y2, double radius, List<Bullet> out) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double lengthSq = dx * dx + dy * dy;
+        for (Level level : levels) {
+            if (level.size == 0) continue;
+            double reach = radius + level.maxRadius;
+            int lastRow = row(level, Math.max(y1, y2) + reach);
+            for (int r = row(level, Math.min(y1, y2) - reach); r <= lastRow; r++) {
+                // Part of the segment that can reach this row (border rows extend forever)
+                double bandTop = r == 0 ? Double.NEGATIVE_INFINITY : originY + r * level.cellSize - reach;
+                double bandBottom = r == level.rows - 1 ? Double.POSITIVE_INFINITY : originY + (r + 1) * level.cellSize + reach;
+                double tMin = 0, tMax = 1;
+                if (dy != 0) {
+                    double tTop = (bandTop - y1) / dy;
+                    double tBottom = (bandBottom - y1) / dy;
+                    tMin = Math.max(0, Math.min(tTop, tBottom));
+                    tMax = Math.min(1, Math.max(tTop, tBottom));
+                    if (tMin > tMax) continue;
+                } else if (y1 < bandTop || y1 > bandBottom) {
+                    continue;
+                }
+                double xa = x1 + dx * tMin;
+                double xb = x1 + dx * tMax;
+                int lastColumn = column(level, Math.max(xa, xb) + reach);
+                for (int c = column(level, Math.min(xa, xb) - reach); c <= lastColumn; c++) {
+                    int cell = r * level.columns + c;
+                    int end = level.cellStart[cell] + level.cellCount[cell];
+                    for (int i = level.cellStart[cell]; i < end; i++) {
+                        Bullet bullet = level.items[i];
+                        double px = bullet.getX() - x1;
+                        double py = bullet.getY() - y1;
+                        double t = lengthSq > 0 ? Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSq)) : 0;
+                        double ox = px - dx * t;
+                        double oy = py - dy * t;
+                        double touch = radius + bullet.getHitRadius();
+                        if (ox * ox + oy * oy <= touch * touch) {
+                            out.add(bullet);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Bullets indexed on each level (finest first), for the benchmark and profiler
+    public int getLevelCount() {
+        return LEVELS;
+    }
+
+    public int getLevelSize(int level) {
+        return levels[level].size;
+    }
+
+    private int column(Level level, double x) {
+        int c = (int)Math.floor((x - originX) * level.inverseCellSize);
+        return c < 0 ? 0 : (c >= level.columns ? level.columns - 1 : c);
+    }
+
+    private int row(Level level, double y) {
+        int r = (int)Math.floor((y - originY) * level.inverseCellSize);
+        return r < 0 ? 0 : (r >= level.rows ? level.rows - 1 : r);
+    }
+}
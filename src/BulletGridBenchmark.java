@@ -0,0 +1,141 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Compares BulletGrid against brute force (testing every bullet) on a 1080p field.
+// Each scenario rebuilds the grid once and runs a batch of radius (player), capsule (beam) and
+// rect (laser) queries, checking that both find exactly the same bullets. The "oversized" mix
+// scales some hitboxes up to 15x to see that big projectiles don't break correctness or cost.
+//
+// Usage: java -Djava.awt.headless=true -cp src BulletGridBenchmark [rounds]
+public class BulletGridBenchmark {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+    private static final int MARGIN = 100;
+    private static final int[] BULLET_COUNTS = {500, 2000, 5000};
+    private static final int QUERIES_PER_ROUND = 30; // Of each kind
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int DEFAULT_ROUNDS = 500;
+
+    private static final Bullet.BulletType[] GAME_TYPES = {
+        Bullet.BulletType.NORMAL, Bullet.BulletType.FAST, Bullet.BulletType.LARGE, Bullet.BulletType.HOMING,
+        Bullet.BulletType.WAVE, Bullet.BulletType.BOMB, Bullet.BulletType.NUKE, Bullet.BulletType.FRAGMENT
+    };
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+
+        System.out.println(String.format("%-10s %7s %14s %14s %14s %9s", "mix", "bullets", "levels", "grid us/round", "brute us/round", "speedup"));
+        boolean ok = true;
+        for (boolean oversized : new boolean[] {false, true}) {
+            for (int count : BULLET_COUNTS) {
+                ok &= run(oversized, count, rounds);
+            }
+        }
+        if (!ok) {
+            System.err.println("BulletGridBenchmark: FAILED - grid and brute force disagree");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static boolean run(boolean oversized, int count, int rounds) {
+        Random random = new Random(count * 31L + (oversized ? 1 : 0));
+        List<Bullet> bullets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Bullet bullet = new Bullet(random.nextDouble() * (WIDTH + 2 * MARGIN) - MARGIN,
+                                       random.nextDouble() * (HEIGHT + 2 * MARGIN) - MARGIN, 0, 0,
+                                       GAME_TYPES[random.nextInt(GAME_TYPES.length)]);
+            if (oversized) {
+                double roll = random.nextDouble();
+                if (roll < 0.02) {
+                    bullet.scaleHitRadius(15); // Screen-filling projectile
+                } else if (roll < 0.12) {
+                    bullet.scaleHitRadius(4);
+                }
+            }
+            bullets.add(bullet);
+        }
+
+        // Same query shapes for both sides: x, y, x2, y2, radius
+        double[][] queries = new double[QUERIES_PER_ROUND][5];
+        for (double[] query : queries) {
+            query[0] = random.nextDouble() * WIDTH;
+            query[1] = random.nextDouble() * HEIGHT;
+            query[2] = query[0] + (random.nextDouble() - 0.5) * 800;
+            query[3] = query[1] + (random.nextDouble() - 0.5) * 800;
+            query[4] = 10 + random.nextDouble() * 40;
+        }
+
+        BulletGrid grid = new BulletGrid(50, WIDTH, HEIGHT, MARGIN);
+        List<Bullet> out = new ArrayList<>();
+        long gridHits = 0, bruteHits = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            gridRound(grid, bullets, queries, out);
+            bruteRound(bullets, queries);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            gridHits += gridRound(grid, bullets, queries, out);
+        }
+        long gridNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            bruteHits += bruteRound(bullets, queries);
+        }
+        long bruteNanos = System.nanoTime() - start;
+
+        StringBuilder levels = new StringBuilder();
+        for (int k = 0; k < grid.getLevelCount(); k++) {
+            levels.append(k == 0 ? "" : "/").append(grid.getLevelSize(k));
+        }
+        System.out.println(String.format("%-10s %7d %14s %14.1f %14.1f %8.1fx%s",
+            oversized ? "oversized" : "game", count, levels, gridNanos / 1000.0 / rounds, bruteNanos / 1000.0 / rounds,
+            bruteNanos / (double)gridNanos, gridHits == bruteHits ? "" : "  MISMATCH " + gridHits + " vs " + bruteHits));
+        return gridHits == bruteHits;
+    }
+
+    // Rebuild plus every query; returns the total number of hits
+    private static long gridRound(BulletGrid grid, List<Bullet> bullets, double[][] queries, List<Bullet> out) {
+        long hits = 0;
+        grid.rebuild(bullets);
+        for (double[] q : queries) {
+            out.clear();
+            grid.queryRadius(q[0], q[1], q[4], out);
+            grid.querySegment(q[0], q[1], q[2], q[3], q[4], out);
+            grid.queryRect(Math.min(q[0], q[2]), Math.min(q[1], q[3]), Math.max(q[0], q[2]), Math.max(q[1], q[3]), out);
+            hits += out.size();
+        }
+        return hits;
+    }
+
+    private static long bruteRound(List<Bullet> bullets, double[][] queries) {
+        long hits = 0;
+        for (double[] q : queries) {
+            double minX = Math.min(q[0], q[2]), maxX = Math.max(q[0], q[2]);
+            double minY = Math.min(q[1], q[3]), maxY = Math.max(q[1], q[3]);
+            double dx = q[2] - q[0], dy = q[3] - q[1];
+            double lengthSq = dx * dx + dy * dy;
+            for (int i = 0, n = bullets.size(); i < n; i++) {
+                Bullet bullet = bullets.get(i);
+                double bulletRadius = bullet.getHitRadius();
+                double touch = q[4] + bulletRadius;
+
+                double cx = bullet.getX() - q[0];
+                double cy = bullet.getY() - q[1];
+                if (cx * cx + cy * cy <= touch * touch) hits++;
+
+                double t = lengthSq > 0 ? Math.max(0, Math.min(1, (cx * dx + cy * dy) / lengthSq)) : 0;
+                double ox = cx - dx * t, oy = cy - dy * t;
+                if (ox * ox + oy * oy <= touch * touch) hits++;
+
+                double rx = Math.max(minX - bullet.getX(), Math.max(0, bullet.getX() - maxX));
+                double ry = Math.max(minY - bullet.getY(), Math.max(0, bullet.getY() - maxY));
+                if (rx * rx + ry * ry <= bulletRadius * bulletRadius) hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,209 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+
+// A boss attack described as data and compiled into lookup tables. Each layer of the pattern
+// (a ring, an arc, an aimed cone...) is built once into unit direction, speed and type tables;
+// firing replays those tables rotated by the layer's offset (aim at the player and/or spin), so a
+// fire costs one cos/sin pair per layer instead of per bullet. Patterns are defined in
+// PatternLibrary with the Builder below and compiled per boss level.
+public final class BulletPattern {
+    private static final double TWO_PI = Math.PI * 2;
+    private static final int RANDOM_STEPS = 64; // Directions sampled across a random spread
+
+    private static final class Layer {
+        int count; // Bullets per fire
+        double[] dirX, dirY; // Unit directions before rotation
+        double[] speeds;
+        Bullet.BulletType[] types;
+        boolean randomRows; // Each bullet picks a random row instead of row i
+        boolean aimed; // Rotate by the angle to the player
+        double spin; // Extra rotation per volley the boss has fired
+        double speedJitter; // Uniform random speed added per bullet
+        Bullet.BulletType[] mixTypes; // Random type per bullet, by cumulative weight
+        double[] mixThresholds;
+    }
+
+    private final String name;
+    private final Layer[] layers;
+    private final boolean aimed;
+
+    private BulletPattern(String name, Layer[] layers) {
+        this.name = name;
+        this.layers = layers;
+        boolean anyAimed = false;
+        for (Layer layer : layers) {
+            anyAimed |= layer.aimed;
+        }
+        this.aimed = anyAimed;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Bullets a single fire queues (for random layers this is still exact - only rows are random)
+    public int getBulletCount() {
+        int total = 0;
+        for (Layer layer : layers) {
+            total += layer.count;
+        }
+        return total;
+    }
+
+    // Queue one volley from (x, y); bullets start spawnRadius out from the centre and spinning layers
+    // turn by their spin times the volley number. Random rows, speed jitter and type mixes roll on random.
+    public void fire(SpawnScheduler spawner, double x, double y, double spawnRadius, double targetX, double targetY, int volley, Random random) {
+        double aim = aimed ? Math.atan2(targetY - y, targetX - x) : 0;
+        for (Layer layer : layers) {
+            double rotation = layer.spin * volley + (layer.aimed ? aim : 0);
+            double cos = 1, sin = 0;
+            if (rotation != 0) {
+                cos = Math.cos(rotation);
+                sin = Math.sin(rotation);
+            }
+            int rows = layer.dirX.length;
+            for (int i = 0; i < layer.count; i++) {
+                int row = layer.randomRows ? (int)(random.nextDouble() * rows) : i;
+                double dx = layer.dirX[row] * cos - layer.dirY[row] * sin;
+                double dy = layer.dirX[row] * sin + layer.dirY[row] * cos;
+                double speed = layer.speeds[row];
+                if (layer.speedJitter > 0) {
+                    speed += random.nextDouble() * layer.speedJitter;
+                }
+                Bullet.BulletType type = layer.mixTypes != null ? pickMixType(layer, random) : layer.types[row];
+                spawner.spawn(x + dx * spawnRadius, y + dy * spawnRadius, dx * speed, dy * speed, type);
+            }
+        }
+    }
+
+    private static Bullet.BulletType pickMixType(Layer layer, Random random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < layer.mixThresholds.length - 1; i++) {
+            if (roll < layer.mixThresholds[i]) {
+                return layer.mixTypes[i];
+            }
+        }
+        return layer.mixTypes[layer.mixTypes.length - 1];
+    }
+
+    // Describes a pattern layer by layer; every setter applies to the layer last started with layer()
+    public static final class Builder {
+        private final String name;
+        private final double speedScale;
+        private final List<Layer> layers = new ArrayList<>();
+        private Layer current;
+        private IntToDoubleFunction angles;
+        private IntToDoubleFunction speeds;
+        private IntFunction<Bullet.BulletType> types;
+        private double randomFrom, randomTo;
+
+        // speedScale multiplies every speed (the per-level difficulty ramp)
+        public Builder(String name, double speedScale) {
+            this.name = name;
+            this.speedScale = speedScale;
+        }
+
+        // Start a layer of count bullets of one type, evenly spread around a full circle by default
+        public Builder layer(int count, double speed, Bullet.BulletType type) {
+            finishLayer();
+            current = new Layer();
+            current.count = Math.max(0, count);
+            int n = current.count;
+            angles = i -> TWO_PI * i / n;
+            speeds = i -> speed;
+            types = i -> type;
+            return this;
+        }
+
+        // Angle of bullet i in radians, before aim and spin
+        public Builder angles(IntToDoubleFunction angles) {
+            this.angles = angles;
+            return this;
+        }
+
+        // Fan of bullets step radians apart, centred on angle 0 (the player, if aimed)
+        public Builder cone(double step) {
+            int n = current.count;
+            return angles(i -> (i - (n - 1) / 2.0) * step);
+        }
+
+        public Builder speeds(IntToDoubleFunction speeds) {
+            this.speeds = speeds;
+            return this;
+        }
+
+        public Builder types(IntFunction<Bullet.BulletType> types) {
+            this.types = types;
+            return this;
+        }
+
+        public Builder aimed() {
+            current.aimed = true;
+            return this;
+        }
+
+        public Builder spin(double radiansPerVolley) {
+            current.spin = radiansPerVolley;
+            return this;
+        }
+
+        // Each bullet flies at a random angle in [from, to) instead of its own angle
+        public Builder randomAngles(double from, double to) {
+            current.randomRows = true;
+            randomFrom = from;
+            randomTo = to;
+            return this;
+        }
+
+        // Add a random 0..jitter to each bullet's speed
+        public Builder speedJitter(double jitter) {
+            current.speedJitter = jitter * speedScale;
+            return this;
+        }
+
+        // Random type per bullet; weights need not sum to 1
+        public Builder typeMix(Bullet.BulletType[] mixTypes, double[] weights) {
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            current.mixTypes = mixTypes.clone();
+            current.mixThresholds = new double[weights.length];
+            double cumulative = 0;
+            for (int i = 0; i < weights.length; i++) {
+                cumulative += weights[i];
+                current.mixThresholds[i] = cumulative / total;
+            }
+            return this;
+        }
+
+        public BulletPattern build() {
+            finishLayer();
+            return new BulletPattern(name, layers.toArray(new Layer[0]));
+        }
+
+        // Compile the current layer's functions into its tables
+        private void finishLayer() {
+            if (current == null) return;
+            int rows = current.randomRows ? RANDOM_STEPS : current.count;
+            current.dirX = new double[rows];
+            current.dirY = new double[rows];
+            current.speeds = new double[rows];
+            current.types = new Bullet.BulletType[rows];
+            for (int i = 0; i < rows; i++) {
+                double angle = current.randomRows
+                    ? randomFrom + (randomTo - randomFrom) * (i + 0.5) / rows
+                    : angles.applyAsDouble(i);
+                current.dirX[i] = Math.cos(angle);
+                current.dirY[i] = Math.sin(angle);
+                current.speeds[i] = speeds.applyAsDouble(current.randomRows ? 0 : i) * speedScale;
+                current.types[i] = types.apply(current.randomRows ? 0 : i);
+            }
+            layers.add(current);
+            current = null;
+        }
+    }
+}
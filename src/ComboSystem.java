@@ -2,6 +2,7 @@ public class ComboSystem {
     private int combo;
     private int comboTimer;
     private int maxCombo;
+    private int runMaxCombo; // Best combo since startRun (maxCombo spans the whole session)
     private double comboMultiplier;
     private int comboTimeout;
     
@@ -35,6 +36,9 @@ public class ComboSystem {
         if (combo > maxCombo) {
             maxCombo = combo;
         }
+        if (combo > runMaxCombo) {
+            runMaxCombo = combo;
+        }
         comboTimer = comboTimeout;
     }
     
@@ -52,6 +56,15 @@ public class ComboSystem {
         return maxCombo;
     }
     
+    public void startRun() {
+        resetCombo();
+        runMaxCombo = 0;
+    }
+    
+    public int getRunMaxCombo() {
+        return runMaxCombo;
+    }
+    
     public double getMultiplier() {
         return comboMultiplier;
     }
@@ -0,0 +1,54 @@
+// Upgrade, passive and item effects folded into plain numbers for the per-bullet loops.
+// Built from GameData, PassiveUpgradeManager and the equipped ActiveItem; both sources carry a
+// version counter that changes on purchase, allocation, equip and load, so Game only rebuilds
+// this when one of them moved (a two-int comparison per tick otherwise).
+public final class DerivedStats {
+    private final int gameDataVersion;
+    private final int upgradeVersion;
+
+    private final double grazeRadiusSq; // Graze zone, squared for distance checks without sqrt
+    private final boolean bulletSlowActive;
+    private final double bulletSlowFactor; // Per-tick speed factor from the Bullet Slow upgrade
+    private final double dodgeChance; // Lucky Dodge chance per hit
+    private final double comboTimeoutMultiplier;
+    private final double scoreMultiplier;
+    private final double moneyMultiplier;
+    private final int vulnerabilityBonusTicks; // Extra attack window from the Attack Window upgrade
+    private final boolean luckyCharmEquipped;
+
+    private DerivedStats(GameData gameData, PassiveUpgradeManager upgrades, double grazeDistance) {
+        gameDataVersion = gameData.getStatsVersion();
+        upgradeVersion = upgrades.getVersion();
+
+        double grazeRadius = grazeDistance * upgrades.getMultiplier(PassiveUpgrade.UpgradeType.GRAZE_RADIUS);
+        grazeRadiusSq = grazeRadius * grazeRadius;
+        int slowLevel = gameData.getActiveBulletSlowLevel();
+        bulletSlowActive = slowLevel > 0;
+        bulletSlowFactor = 0.999 - (slowLevel * 0.0001);
+        dodgeChance = gameData.getActiveLuckyDodgeLevel() * 0.05; // 5% per level
+        comboTimeoutMultiplier = upgrades.getMultiplier(PassiveUpgrade.UpgradeType.COMBO_DURATION);
+        scoreMultiplier = upgrades.getMultiplier(PassiveUpgrade.UpgradeType.SCORE_MULTIPLIER);
+        moneyMultiplier = upgrades.getMultiplier(PassiveUpgrade.UpgradeType.MONEY_GAIN);
+        vulnerabilityBonusTicks = gameData.getActiveAttackWindowLevel() * 60;
+        ActiveItem item = gameData.getEquippedItem();
+        luckyCharmEquipped = item != null && item.getType() == ActiveItem.ItemType.LUCKY_CHARM;
+    }
+
+    // The given stats if they are still current, otherwise freshly computed ones
+    public static DerivedStats refresh(DerivedStats stats, GameData gameData, PassiveUpgradeManager upgrades, double grazeDistance) {
+        if (stats != null && stats.gameDataVersion == gameData.getStatsVersion() && stats.upgradeVersion == upgrades.getVersion()) {
+            return stats;
+        }
+        return new DerivedStats(gameData, upgrades, grazeDistance);
+    }
+
+    public double getGrazeRadiusSq() { return grazeRadiusSq; }
+    public boolean isBulletSlowActive() { return bulletSlowActive; }
+    public double getBulletSlowFactor() { return bulletSlowFactor; }
+    public double getDodgeChance() { return dodgeChance; }
+    public double getComboTimeoutMultiplier() { return comboTimeoutMultiplier; }
+    public double getScoreMultiplier() { return scoreMultiplier; }
+    public double getMoneyMultiplier() { return moneyMultiplier; }
+    public int getVulnerabilityBonusTicks() { return vulnerabilityBonusTicks; }
+    public boolean isLuckyCharmEquipped() { return luckyCharmEquipped; }
+}
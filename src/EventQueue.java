@@ -0,0 +1,96 @@
+// Per-tick queue of gameplay events. The simulation records what happened (a bullet exploded,
+// the player grazed a bullet, the boss was hit...) and moves on; Game.processEvents then runs the
+// side effects - particles, damage numbers, screen shake, score and combo, audio - in one batch
+// after the update. Event objects are preallocated in a ring and reused, so emitting allocates
+// nothing; the ring only grows if a single tick ever produces more events than it holds.
+public class EventQueue {
+    public enum Type {
+        BULLET_EXPLODED,  // x, y, bulletType; count = bullets alive (to thin out the effect)
+        PLAYER_GRAZED,    // x, y of the bullet
+        LUCKY_DODGE,      // x, y of the player; count = dodge combo
+        SHIELD_BROKEN,    // x, y of the player
+        PLAYER_DIED,      // x, y of the player
+        PLAYER_RESPAWNED, // x, y of the new player
+        BOSS_HIT,         // x, y of the impact; x2, y2 of the boss; count = hits so far; value = health left
+        BOSS_ARRIVED,     // x, y of the boss as its intro ends
+        BOSS_DESTROYED    // x, y of the boss as its death animation ends
+    }
+
+    public static class Event {
+        Type type;
+        double x, y;
+        double x2, y2;
+        int count;
+        int value;
+        Bullet.BulletType bulletType;
+
+        public Type getType() { return type; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public double getX2() { return x2; }
+        public double getY2() { return y2; }
+        public int getCount() { return count; }
+        public int getValue() { return value; }
+        public Bullet.BulletType getBulletType() { return bulletType; }
+    }
+
+    private Event[] ring;
+    private int head; // Index of the oldest event
+    private int size;
+
+    public EventQueue(int capacity) {
+        int ringSize = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1; // Power of two for cheap wrapping
+        ring = new Event[ringSize];
+        for (int i = 0; i < ringSize; i++) {
+            ring[i] = new Event();
+        }
+    }
+
+    // Claim the next slot; the caller fills in the fields its type uses
+    public Event emit(Type type, double x, double y) {
+        if (size == ring.length) {
+            grow();
+        }
+        Event event = ring[(head + size) & (ring.length - 1)];
+        size++;
+        event.type = type;
+        event.x = x;
+        event.y = y;
+        event.x2 = 0;
+        event.y2 = 0;
+        event.count = 0;
+        event.value = 0;
+        event.bulletType = null;
+        return event;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Oldest queued event, or null when drained; the returned object is reused after the next emit
+    public Event poll() {
+        if (size == 0) return null;
+        Event event = ring[head];
+        head = (head + 1) & (ring.length - 1);
+        size--;
+        return event;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        Event[] larger = new Event[ring.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = ring[(head + i) & (ring.length - 1)];
+        }
+        for (int i = size; i < larger.length; i++) {
+            larger[i] = new Event();
+        }
+        ring = larger;
+        head = 0;
+    }
+}
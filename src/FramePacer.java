@@ -0,0 +1,84 @@
+import java.util.concurrent.locks.LockSupport;
+
+// Paces the game loop to a target frame rate using parkNanos for the bulk of the wait and a
+// short spin-yield window at the end, so frames land on time without burning a core or
+// oversleeping by an OS timer slice like Thread.sleep(1) does.
+public class FramePacer {
+    public static final int[] TARGET_OPTIONS = {60, 120, 144, 0}; // 0 = uncapped
+
+    private static final long SPIN_WINDOW_NANOS = 1_500_000L; // Last 1.5ms is spent spin-yielding
+    private static final long MAX_LATE_NANOS = 50_000_000L; // Further behind than this -> resync instead of catching up
+    private static final double JITTER_SMOOTHING = 0.05;
+
+    private int targetFps;
+    private long frameNanos; // 0 when uncapped
+    private long nextFrameTime;
+    private long lastFrameStart;
+
+    private volatile double jitterMillis; // Smoothed |actual interval - target interval|
+    private volatile double frameMillis; // Smoothed actual frame interval
+
+    public FramePacer(int targetFps) {
+        setTargetFps(targetFps);
+    }
+
+    public void setTargetFps(int targetFps) {
+        this.targetFps = targetFps;
+        this.frameNanos = targetFps > 0 ? 1_000_000_000L / targetFps : 0;
+        this.nextFrameTime = 0;
+        this.jitterMillis = 0;
+    }
+
+    public int getTargetFps() {
+        return targetFps;
+    }
+
+    // Frame budget in milliseconds (uncapped uses the 60 FPS budget)
+    public double getTargetFrameMillis() {
+        return frameNanos > 0 ? frameNanos / 1_000_000.0 : 1000.0 / 60.0;
+    }
+
+    // Blocks until the next frame is due and returns its start time (System.nanoTime)
+    public long waitForNextFrame() {
+        long now = System.nanoTime();
+
+        if (frameNanos > 0) {
+            if (nextFrameTime == 0 || now - nextFrameTime > MAX_LATE_NANOS) {
+                // First frame, or we fell far behind (hitch, breakpoint) - resync rather than bursting frames
+                nextFrameTime = now;
+            }
+
+            long remaining = nextFrameTime - now;
+            while (remaining > SPIN_WINDOW_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_WINDOW_NANOS);
+                remaining = nextFrameTime - System.nanoTime();
+            }
+            while (System.nanoTime() < nextFrameTime) {
+                Thread.yield();
+            }
+            now = System.nanoTime();
+            nextFrameTime += frameNanos;
+        } else {
+            // Uncapped - just give other threads (EDT) a chance to run
+            Thread.yield();
+            now = System.nanoTime();
+        }
+
+        if (lastFrameStart != 0) {
+            double interval = (now - lastFrameStart) / 1_000_000.0;
+            double expected = frameNanos > 0 ? frameNanos / 1_000_000.0 : frameMillis;
+            frameMillis += (interval - frameMillis) * JITTER_SMOOTHING;
+            jitterMillis += (Math.abs(interval - expected) - jitterMillis) * JITTER_SMOOTHING;
+        }
+        lastFrameStart = now;
+        return now;
+    }
+
+    public double getJitterMillis() {
+        return jitterMillis;
+    }
+
+    public double getFrameMillis() {
+        return frameMillis;
+    }
+}
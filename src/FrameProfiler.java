@@ -0,0 +1,195 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+public class FrameProfiler {
+    public enum Phase {
+        // Update phases (game thread)
+        INPUT("Input"),
+        BOSS_UPDATE("Boss"),
+        BULLET_UPDATE("Bullets"),
+        GRID_REBUILD("Grid"),
+        COLLISION("Collide/Graze"),
+        PARTICLES("Particles"),
+        // Render phases (EDT)
+        RENDER_BACKGROUND("R Background"),
+        RENDER_BEAMS("R Beams"),
+        RENDER_PARTICLES("R Particles"),
+        RENDER_BULLETS("R Bullets"),
+        RENDER_BOSS("R Boss/Player"),
+        RENDER_HUD("R HUD"),
+        RENDER_POST("R Post FX");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isRenderPhase() {
+            return ordinal() >= RENDER_BACKGROUND.ordinal();
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final int HISTORY = 600; // 10 seconds at 60 FPS
+    private static final int STATS_INTERVAL = 30; // Recompute percentiles twice a second
+
+    // Profiling is off by default so the hot path only pays for a static boolean read
+    public static volatile boolean enabled = false;
+    public static volatile boolean overlayVisible = false;
+
+    // Per-phase ring buffers of nanoseconds spent in that phase per frame
+    private static final long[][] history = new long[PHASES.length][HISTORY];
+    private static final long[] current = new long[PHASES.length];
+    private static int updateIndex;
+    private static int renderIndex;
+    private static int updateSamples;
+    private static int renderSamples;
+
+    // Cached percentiles for the overlay (nanoseconds)
+    private static final long[] p50 = new long[PHASES.length];
+    private static final long[] p99 = new long[PHASES.length];
+    private static final long[] scratch = new long[HISTORY];
+    private static int framesSinceStats;
+    private static volatile String lastDump; // File name of the last CSV dump, shown on the overlay
+
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void end(Phase phase, long startNanos) {
+        if (enabled && startNanos != 0L) {
+            current[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    // Called by the game thread after each update tick
+    public static void endUpdateFrame() {
+        if (!enabled) return;
+        for (Phase phase : PHASES) {
+            if (!phase.isRenderPhase()) {
+                history[phase.ordinal()][updateIndex] = current[phase.ordinal()];
+                current[phase.ordinal()] = 0;
+            }
+        }
+        updateIndex = (updateIndex + 1) % HISTORY;
+        if (updateSamples < HISTORY) updateSamples++;
+    }
+
+    // Called by the EDT after each gameplay frame is drawn
+    public static void endRenderFrame() {
+        if (!enabled) return;
+        for (Phase phase : PHASES) {
+            if (phase.isRenderPhase()) {
+                history[phase.ordinal()][renderIndex] = current[phase.ordinal()];
+                current[phase.ordinal()] = 0;
+            }
+        }
+        renderIndex = (renderIndex + 1) % HISTORY;
+        if (renderSamples < HISTORY) renderSamples++;
+
+        if (++framesSinceStats >= STATS_INTERVAL) {
+            framesSinceStats = 0;
+            computeStats();
+        }
+    }
+
+    public static void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        enabled = overlayVisible;
+        if (enabled) {
+            clear();
+        }
+    }
+
+    private static void clear() {
+        for (long[] row : history) Arrays.fill(row, 0);
+        Arrays.fill(current, 0);
+        Arrays.fill(p50, 0);
+        Arrays.fill(p99, 0);
+        updateIndex = 0;
+        renderIndex = 0;
+        updateSamples = 0;
+        renderSamples = 0;
+        framesSinceStats = 0;
+    }
+
+    private static void computeStats() {
+        for (Phase phase : PHASES) {
+            int samples = phase.isRenderPhase() ? renderSamples : updateSamples;
+            int i = phase.ordinal();
+            if (samples == 0) {
+                p50[i] = 0;
+                p99[i] = 0;
+                continue;
+            }
+            System.arraycopy(history[i], 0, scratch, 0, samples);
+            Arrays.sort(scratch, 0, samples);
+            p50[i] = scratch[(samples - 1) / 2];
+            p99[i] = scratch[(int)((samples - 1) * 0.99)];
+        }
+    }
+
+    public static Phase[] getPhases() {
+        return PHASES;
+    }
+
+    public static double getP50Millis(Phase phase) {
+        return p50[phase.ordinal()] / 1_000_000.0;
+    }
+
+    public static double getP99Millis(Phase phase) {
+        return p99[phase.ordinal()] / 1_000_000.0;
+    }
+
+    // Null until a dump has finished writing
+    public static String getLastDump() {
+        return lastDump;
+    }
+
+    // Write the whole history to a CSV (one row per frame, one column per phase, in microseconds)
+    public static void dumpCsv() {
+        final long[][] copy = new long[PHASES.length][];
+        for (int i = 0; i < PHASES.length; i++) {
+            copy[i] = history[i].clone();
+        }
+        final int updateStart = updateSamples < HISTORY ? 0 : updateIndex;
+        final int renderStart = renderSamples < HISTORY ? 0 : renderIndex;
+        final int rows = Math.max(updateSamples, renderSamples);
+        final File file = new File("profile_" + System.currentTimeMillis() + ".csv");
+
+        // Write off the game thread so dumping never stalls a frame
+        Thread writer = new Thread(() -> {
+            try (BufferedWriter out = new BufferedWriter(new FileWriter(file))) {
+                out.write("frame");
+                for (Phase phase : PHASES) {
+                    out.write("," + phase.name().toLowerCase() + "_us");
+                }
+                out.newLine();
+                for (int row = 0; row < rows; row++) {
+                    out.write(Integer.toString(row));
+                    for (Phase phase : PHASES) {
+                        int start = phase.isRenderPhase() ? renderStart : updateStart;
+                        long nanos = copy[phase.ordinal()][(start + row) % HISTORY];
+                        out.write("," + (nanos / 1000));
+                    }
+                    out.newLine();
+                }
+                lastDump = file.getName();
+                System.err.println("Profiler history written to " + file.getAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Failed to write profiler CSV: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }, "ProfilerDump");
+        writer.setDaemon(true);
+        writer.start();
+    }
+}
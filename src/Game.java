@@ -1,20 +1,23 @@
 import java.awt.*;
 import java.awt.event.*;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import javax.swing.*;
 
 public class Game extends JPanel implements Runnable {
     // Game constants
     public static final int WIDTH;
     public static final int HEIGHT;
-    private static final int FPS = 60;
+    private static final int TICKS_PER_SECOND = 60; // Simulation rate - all gameplay timers count these ticks
+    private static final double NANOS_PER_TICK = 1_000_000_000.0 / TICKS_PER_SECOND;
+    private static final double TICK_SLOP = 0.05;
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private static final int WARMUP_ITERATIONS = 200; // Startup JIT warm-up, spread across boss kinds
+    private static final int WARMUP_BOSS_LEVELS = 4; // Levels 1-4 cover planes, helicopters and a mega boss
     
     static {
-        // Get screen dimensions
-        Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
+        // Get screen dimensions (fixed 1080p when running headless, e.g. AllocationGuard)
+        Dimension screenSize = GraphicsEnvironment.isHeadless() ? new Dimension(1920, 1080) : Toolkit.getDefaultToolkit().getScreenSize();
         WIDTH = screenSize.width;
         HEIGHT = screenSize.height;
     }
@@ -35,6 +38,23 @@ public class Game extends JPanel implements Runnable {
     private AchievementManager achievementManager;
     private PassiveUpgradeManager passiveUpgradeManager;
     private ComboSystem comboSystem;
+    private DerivedStats stats; // Upgrade effects for the hot loops, refreshed when upgrades change
+    private SaveManager saveManager;
+    private GameState lastTickState; // For saving when a run ends
+    private RunJournal runJournal; // Null if the journal couldn't be opened
+    private boolean runActive; // A run has started and hasn't been journaled yet
+    private volatile boolean startRequested; // Set by key handlers; tick() starts the level on the game thread
+    private volatile boolean retryRequested; // Set by key handlers; tick() runs the retry on the game thread
+    private volatile int pendingBackgroundLevel; // Level whose background the game thread still has to wait for (0 = none)
+    private RunJournal.Cause deathCause; // Set where the player dies, read when the run is journaled
+    private RunJournal.Cause endedCause; // How the run ended (clear or death) while its end screen is up
+    
+    // Fight-start state for instant retry (see retryLevel)
+    private Boss.Snapshot fightSnapshot;
+    private double fightSnapshotPlayerX, fightSnapshotPlayerY;
+    private int fightSnapshotSpeedLevel;
+    private int fightSnapshotInvulnerability;
+    private boolean fightSnapshotPending; // Set by startGame, cleared once the intro ends and the snapshot is taken
     
     // Game objects
     private Player player;
@@ -44,6 +64,8 @@ public class Game extends JPanel implements Runnable {
     private List<Particle> particles;
     private List<Particle> particlePool; // Pool for recycling particles
     private List<BeamAttack> beamAttacks;
+    private final EventQueue events = new EventQueue(256); // Side effects recorded during update, run by processEvents
+    private final SpawnScheduler spawner = new SpawnScheduler(256); // Boss and fragment bullets waiting for their tick's spawn budget
     
     // Particle limits for performance
     private static final int MAX_PARTICLES = 500;
@@ -62,13 +84,60 @@ public class Game extends JPanel implements Runnable {
     private static final Color WARNING_RED = new Color(191, 97, 106);
     private static final Color PLAYER_DEATH_RED = new Color(191, 97, 106);
     private static final Color DODGE_GREEN = new Color(163, 190, 140);
+    private static final Color SHIELD_BREAK_BLUE = new Color(136, 192, 208);
+    private static final Color GRAZE_BLUE = new Color(100, 200, 255);
+    private static final Color LASER_DEBRIS = new Color(235, 203, 139);
+    private static final Color DAMAGE_NUMBER_RED = new Color(255, 100, 100);
+    private static final Color BOSS_DEBRIS = new Color(160, 160, 170, 200);
+    private static final Color BOSS_SPARK = new Color(255, 220, 100, 220);
+    private static final Color INTRO_JET_TRAIL = new Color(255, 150, 0, 200);
+    private static final Color ENGINE_GLOW = new Color(100, 150, 255, 180);
+    private static final Color ARRIVAL_BURST = new Color(255, 200, 100, 200);
+    private static final Color DAMAGE_SMOKE = new Color(60, 60, 60, 180);
+    private static final Color SPAWN_FLASH = new Color(100, 200, 255, 220);
+    private static final Color GRAZE_GLINT = new Color(100, 200, 255, 200);
+    private static final Color SHOCKWAVE_GREEN = new Color(163, 190, 140);
+    private static final Color[] BOSS_HIT_RINGS = new Color[5];
+    private static final Color[] EXPLOSION_RINGS = new Color[4];
+    private static final Color[] BOSS_KILL_RINGS = new Color[5];
+    private static final Color[] IMPACT_RINGS = new Color[4];
+    private static final Color[] SHIELD_RINGS = new Color[4];
+    private static final Color[] ROCKET_FLAMES = new Color[5]; // Green 150-190: orange to amber
+    private static final Color[] WRECK_FIRE = new Color[6]; // Green 100-250: red-orange to yellow
+    static {
+        for (int i = 0; i < BOSS_HIT_RINGS.length; i++) {
+            BOSS_HIT_RINGS[i] = new Color(255, 150 - i * 20, 50, 220 - i * 40);
+        }
+        for (int i = 0; i < EXPLOSION_RINGS.length; i++) {
+            EXPLOSION_RINGS[i] = new Color(255, 150 - i * 30, 0, 200 - i * 50);
+        }
+        for (int i = 0; i < BOSS_KILL_RINGS.length; i++) {
+            BOSS_KILL_RINGS[i] = new Color(255, 150 - i * 20, 0);
+        }
+        for (int i = 0; i < IMPACT_RINGS.length; i++) {
+            IMPACT_RINGS[i] = new Color(255, 150 - i * 30, 50, 220 - i * 50);
+        }
+        for (int i = 0; i < SHIELD_RINGS.length; i++) {
+            SHIELD_RINGS[i] = new Color(136, 192, 208, 220 - i * 45);
+        }
+        for (int i = 0; i < ROCKET_FLAMES.length; i++) {
+            ROCKET_FLAMES[i] = new Color(255, 150 + i * 10, 0);
+        }
+        for (int i = 0; i < WRECK_FIRE.length; i++) {
+            WRECK_FIRE[i] = new Color(255, 100 + i * 30, 0);
+        }
+    }
     
     // Cached math constants
     private static final double TWO_PI = Math.PI * 2;
     
     // Spatial grid for bullet collision optimization
     private static final int GRID_CELL_SIZE = 50;
-    private Map<Integer, List<Bullet>> bulletGrid;
+    private BulletGrid bulletGrid; // Rebuilt after the bullet update; queried by collisions and items
+    private final BulletBuckets bulletBuckets = new BulletBuckets(); // Groups bullets by type for the update loops
+    private final ParallelUpdater.RangeAction particleAction = this::updateParticles; // Kept so the split path doesn't allocate
+    private double particleDeltaTime; // deltaTime of the particle update in progress
+    private final List<Bullet> nearbyScratch = new ArrayList<>(); // Reused for grid query results
     
     // Player trail effect
     private int trailSpawnTimer;
@@ -126,6 +195,8 @@ public class Game extends JPanel implements Runnable {
     private boolean tookDamageThisBoss;
     private int consecutivePerfectBosses;
     private int totalGrazesThisRun;
+    private int runMoneyAtStart; // gameData's run money when this run started; the journal records the difference
+    private int runLevel; // Level of this run (WIN -> SHOP moves the current level on before it is journaled)
     
     // Boss mechanics
     private boolean bossVulnerable;
@@ -160,6 +231,7 @@ public class Game extends JPanel implements Runnable {
     // Camera tracking with smooth interpolation
     private double cameraX = 0;
     private double cameraY = 0;
+    private double prevCameraX, prevCameraY; // Camera at the start of the tick, for render interpolation
     private static final double CAMERA_SMOOTHING = 0.02; // Slower and smoother (was 0.05)
     private static final double CAMERA_DEADZONE = 80; // Distance from center before camera moves
     private static final double CAMERA_MAX_OFFSET = 100; // Max pixels camera can move from center
@@ -180,17 +252,23 @@ public class Game extends JPanel implements Runnable {
     public static boolean enableVignette = true;
     public static int gradientQuality = 1; // 0=Low (1 layer), 1=Medium (2 layers), 2=High (3 layers)
     public static int backgroundMode = 1; // 0=Gradient, 1=Parallax Images, 2=Static Image
+    public static boolean autoQuality = false; // Let the quality governor step effects down/up from measured frame time
+    public static int targetFps = 60; // Frame rate cap (0 = uncapped), see FramePacer.TARGET_OPTIONS
+    public static volatile double renderAlpha = 1.0; // How far into the next tick moving objects are drawn (1 = latest state)
+    private QualityGovernor qualityGovernor;
+    private FramePacer framePacer;
     
     // Quit confirmation
     private int escapeTimer; // Timer for double-tap escape confirmation
     private static final int ESCAPE_TIMEOUT = 120; // 2 seconds to press escape again
     
     // Timer and FPS tracking
-    private long gameStartTime; // Time when current game started (in milliseconds)
+    private long gameStartTime; // Time when current game started (System.nanoTime)
     private double gameTimeSeconds; // Current game time in seconds
     private int currentFPS;
     private long lastFPSTime;
     private int frameCount;
+    private volatile long lastSimulationNanos; // Duration of the last update tick (for flight recordings and the quality governor)
     private double bossKillTime; // Time when boss was killed
     
     // Loading progress
@@ -213,12 +291,19 @@ public class Game extends JPanel implements Runnable {
         particles = new ArrayList<>();
         particlePool = new ArrayList<>();
         beamAttacks = new ArrayList<>();
-        bulletGrid = new HashMap<>();
+        bulletGrid = new BulletGrid(GRID_CELL_SIZE, WIDTH, HEIGHT, 100); // Bullets are dropped 100px off screen
         gameData = new GameData();
         shopManager = new ShopManager(gameData);
         achievementManager = new AchievementManager();
         passiveUpgradeManager = new PassiveUpgradeManager();
         comboSystem = new ComboSystem();
+        qualityGovernor = new QualityGovernor();
+        
+        // Restore progress and settings before anything reads them (the pacer needs targetFps)
+        saveManager = new SaveManager();
+        saveManager.load(gameData, achievementManager, passiveUpgradeManager);
+        runJournal = RunJournal.openDefault();
+        framePacer = new FramePacer(targetFps);
         pendingAchievements = new ArrayList<>();
         damageNumbers = new ArrayList<>();
         
@@ -261,6 +346,10 @@ public class Game extends JPanel implements Runnable {
                     keys[e.getKeyCode()] = true;
                 }
                 handleKeyPress(e);
+                // Purchases, level selection and settings all happen outside gameplay
+                if (gameState != GameState.PLAYING || isPaused) {
+                    requestSave();
+                }
             }
             
             @Override
@@ -282,6 +371,16 @@ public class Game extends JPanel implements Runnable {
     private void handleKeyPress(KeyEvent e) {
         int key = e.getKeyCode();
         
+        // Profiler hotkeys work in any state
+        if (key == KeyEvent.VK_F4) {
+            FrameProfiler.toggleOverlay();
+            return;
+        }
+        if (key == KeyEvent.VK_F5) {
+            FrameProfiler.dumpCsv();
+            return;
+        }
+        
         switch (gameState) {
             case MENU:
                 if (key == KeyEvent.VK_UP || key == KeyEvent.VK_W) {
@@ -352,7 +451,7 @@ public class Game extends JPanel implements Runnable {
                     screenShakeIntensity = 1; 
                 }
                 else if (key == KeyEvent.VK_DOWN || key == KeyEvent.VK_S) { 
-                    selectedSettingsItem = Math.min(9, selectedSettingsItem + 1);
+                    selectedSettingsItem = Math.min(11, selectedSettingsItem + 1);
                     ensureSettingsItemVisible();
                     screenShakeIntensity = 1; 
                 }
@@ -390,7 +489,7 @@ public class Game extends JPanel implements Runnable {
                         screenShakeIntensity = 3;
                         switch (selectedPauseItem) {
                             case 0: isPaused = false; break; // Resume
-                            case 1: startGame(); isPaused = false; break; // Restart
+                            case 1: retryRequested = true; isPaused = false; break; // Restart
                             case 2: transitionToState(GameState.MENU); isPaused = false; break; // Menu
                         }
                     } else if (key == KeyEvent.VK_ESCAPE) {
@@ -405,7 +504,7 @@ public class Game extends JPanel implements Runnable {
                         screenShakeIntensity = 3;
                     } else if (key == KeyEvent.VK_R) {
                         // Restart current level
-                        startGame();
+                        retryRequested = true;
                     } else if (key == KeyEvent.VK_SPACE && introPanActive) {
                         // Skip intro animation
                         introPanActive = false;
@@ -435,25 +534,20 @@ public class Game extends JPanel implements Runnable {
                     int selected = shopManager.getSelectedShopItem();
                     if (selected == 0) {
                         // Continue to next level
-                        startGame();
+                        startRequested = true;
                         screenShakeIntensity = 5;
                     } else {
                         boolean purchased = shopManager.purchaseItem(selected);
                         screenShakeIntensity = purchased ? 4 : 2;
                     }
                 }
-                else if (key == KeyEvent.VK_ESCAPE) { startGame(); screenShakeIntensity = 3; }
+                else if (key == KeyEvent.VK_ESCAPE) { startRequested = true; screenShakeIntensity = 3; }
                 break;
                 
             case GAME_OVER:
                 if (key == KeyEvent.VK_R) {
-                    int survivalReward = gameData.getSurvivalTime() / 60;
-                    gameData.addRunMoney(survivalReward);
-                    gameData.addTotalMoney(survivalReward);
-                    gameData.setScore(0);
-                    gameData.setRunMoney(0);
-                    gameData.setSurvivalTime(0);
-                    startGame();
+                    // tick() pays the survival reward and clears the run totals before retrying
+                    retryRequested = true;
                 } else if (key == KeyEvent.VK_SPACE) {
                     transitionToState(GameState.MENU);
                 }
@@ -538,10 +632,12 @@ public class Game extends JPanel implements Runnable {
     
     private void selectPreviousLevel() {
         gameData.setCurrentLevel(Math.max(1, gameData.getCurrentLevel() - 1));
+        Renderer.prefetchBackground(gameData.getCurrentLevel());
     }
     
     private void selectNextLevel() {
         gameData.setCurrentLevel(Math.min(gameData.getMaxUnlockedLevel(), gameData.getCurrentLevel() + 1));
+        Renderer.prefetchBackground(gameData.getCurrentLevel());
         ensureLevelVisible();
     }
     
@@ -585,32 +681,25 @@ public class Game extends JPanel implements Runnable {
     
     private void startSelectedLevel() {
         if (gameData.getCurrentLevel() <= gameData.getMaxUnlockedLevel()) {
-            startGame();
+            startRequested = true;
         }
     }
     
+    // Runs on the game thread between ticks (or on the caller's thread in the headless
+    // measurement); key handlers set startRequested instead of calling it.
     private void startGame() {
+        endRun(RunJournal.Cause.QUIT); // Restarting mid-run
         gameState = GameState.PLAYING;
         player = new Player(WIDTH / 2, HEIGHT - 200, gameData.getActiveSpeedLevel());
-        bullets.clear();
-        particles.clear();
-        damageNumbers.clear();
+        recycleEntities();
         currentBoss = new Boss(WIDTH / 2, 100, gameData.getCurrentLevel()); // Normal position, will move during intro
-        gameData.setSurvivalTime(0);
-        dodgeCombo = 0;
-        comboTimer = 0;
-        bossVulnerable = false;
-        vulnerabilityTimer = 0;
+        beamAttacks = currentBoss.getBeamAttacks();
+        // Only queue the decode here; tick() waits for it before the first update (see
+        // awaitPendingBackground) while the EDT keeps painting
+        Renderer.prefetchBackground(gameData.getCurrentLevel());
+        pendingBackgroundLevel = gameData.getCurrentLevel();
+        resetRunState();
         invulnerabilityTimer = INVULNERABILITY_DURATION; // 5 seconds of immunity
-        bossHitCount = 0;
-        respawnInvincibilityTimer = 0; // No respawn invincibility at start
-        waitingForRespawn = false;
-        respawnDelayTimer = 0;
-        isPaused = false;
-        selectedPauseItem = 0;
-        tookDamageThisBoss = false;
-        totalGrazesThisRun = 0;
-        comboSystem.resetCombo();
         
         // Start boss intro cinematic
         bossIntroActive = true;
@@ -626,6 +715,81 @@ public class Game extends JPanel implements Runnable {
         bossEntranceY = -200; // Boss will start above screen
         cameraX = 0;
         cameraY = 0;
+        fightSnapshotPending = true; // Captured by update once the intro is over
+    }
+    
+    // Restart the current level from the moment its intro ended: the same Player and Boss objects
+    // are rewound from the fight snapshot and every bullet and particle goes back to its pool, so a
+    // retry skips the intro and allocates nothing. Falls back to startGame when there is no
+    // snapshot for this level yet (e.g. restarting during the intro). Runs on the game thread
+    // between ticks, like startGame; key handlers set retryRequested instead of calling it.
+    private void retryLevel() {
+        if (fightSnapshot == null || fightSnapshot.getLevel() != gameData.getCurrentLevel() ||
+            fightSnapshotSpeedLevel != gameData.getActiveSpeedLevel() || currentBoss == null) {
+            startGame();
+            return;
+        }
+        endRun(RunJournal.Cause.QUIT); // Restarting mid-run
+        gameState = GameState.PLAYING;
+        if (player == null) {
+            player = new Player(WIDTH / 2, HEIGHT - 200, gameData.getActiveSpeedLevel());
+        }
+        player.reset(fightSnapshotPlayerX, fightSnapshotPlayerY);
+        recycleEntities();
+        currentBoss.restoreSnapshot(fightSnapshot);
+        beamAttacks = currentBoss.getBeamAttacks();
+        resetRunState();
+        invulnerabilityTimer = fightSnapshotInvulnerability;
+        
+        bossIntroActive = false;
+        introPanActive = false;
+        cameraX = 0;
+        cameraY = 0;
+        fightSnapshotPending = false;
+    }
+    
+    // Record the fight's starting state for retryLevel (called on the game thread when the intro ends)
+    private void captureFightSnapshot() {
+        fightSnapshot = currentBoss.captureSnapshot();
+        fightSnapshotPlayerX = player.getX();
+        fightSnapshotPlayerY = player.getY();
+        fightSnapshotSpeedLevel = gameData.getActiveSpeedLevel();
+        fightSnapshotInvulnerability = invulnerabilityTimer;
+    }
+    
+    // Hand every live bullet and particle back to the pools and drop queued effects
+    private void recycleEntities() {
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            returnBulletToPool(bullets.get(i));
+        }
+        bullets.clear();
+        for (int i = particles.size() - 1; i >= 0; i--) {
+            returnParticleToPool(particles.get(i));
+        }
+        particles.clear();
+        damageNumbers.clear();
+        events.clear();
+        spawner.clear();
+    }
+    
+    // Per-run counters, timers and flags shared by startGame and retryLevel
+    private void resetRunState() {
+        gameData.setSurvivalTime(0);
+        dodgeCombo = 0;
+        comboTimer = 0;
+        bossVulnerable = false;
+        vulnerabilityTimer = 0;
+        bossHitCount = 0;
+        respawnInvincibilityTimer = 0; // No respawn invincibility at start
+        waitingForRespawn = false;
+        respawnDelayTimer = 0;
+        isPaused = false;
+        selectedPauseItem = 0;
+        tookDamageThisBoss = false;
+        totalGrazesThisRun = 0;
+        runMoneyAtStart = gameData.getRunMoney(); // Keeps adding up across WIN -> SHOP -> next level
+        runLevel = gameData.getCurrentLevel();
+        comboSystem.startRun();
         
         screenShakeIntensity = 0;
         bossDeathAnimation = false;
@@ -635,12 +799,15 @@ public class Game extends JPanel implements Runnable {
         escapeTimer = 0;
         
         // Initialize timer and FPS tracking
-        gameStartTime = System.currentTimeMillis();
+        gameStartTime = System.nanoTime();
         gameTimeSeconds = 0;
         currentFPS = 0;
         frameCount = 0;
-        lastFPSTime = System.currentTimeMillis();
+        lastFPSTime = System.nanoTime();
         bossKillTime = 0;
+        deathCause = RunJournal.Cause.BULLET;
+        endedCause = null;
+        runActive = true;
         
         // Start active item cooldown at start of level
         ActiveItem equippedItem = gameData.getEquippedItem();
@@ -660,51 +827,159 @@ public class Game extends JPanel implements Runnable {
     @Override
     public void run() {
         long lastTime = System.nanoTime();
-        double nsPerTick = 1000000000.0 / FPS;
         double delta = 0;
         
         while (running) {
-            long now = System.nanoTime();
-            delta += (now - lastTime) / nsPerTick;
+            long now = framePacer.waitForNextFrame();
+            delta += (now - lastTime) / NANOS_PER_TICK;
             lastTime = now;
             
-            if (delta >= 1) {
-                double deltaTime = delta; // Actual delta time for frame-independent updates
-                update(deltaTime);
-                gradientTime += 0.02 * deltaTime; // Animate gradient with delta time
-                
-                // Update escape timer
-                if (escapeTimer > 0) {
-                    escapeTimer -= deltaTime;
-                    if (escapeTimer < 0) escapeTimer = 0;
-                }
-                
-                // Update game timer (only during gameplay)
-                if (gameState == GameState.PLAYING && player != null) {
-                    gameTimeSeconds = (System.currentTimeMillis() - gameStartTime) / 1000.0;
-                }
-                
-                // Calculate FPS
-                frameCount++;
-                long currentTime = System.currentTimeMillis();
-                if (currentTime - lastFPSTime >= 1000) {
-                    currentFPS = frameCount;
-                    frameCount = 0;
-                    lastFPSTime = currentTime;
-                }
-                
-                repaint();
+            // Simulation advances in fixed 60 Hz ticks (timers are frame counts); rendering runs at the
+            // pacer's target. The small slop keeps a paced 60 FPS loop at exactly one tick per frame.
+            int ticks = 0;
+            while (delta >= 1 - TICK_SLOP && ticks < MAX_TICKS_PER_FRAME) {
+                tick();
                 delta--;
+                ticks++;
+            }
+            if (ticks == MAX_TICKS_PER_FRAME) {
+                delta = 0; // Drop the backlog after a long hitch instead of fast-forwarding
             }
             
-            try {
-                Thread.sleep(1);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+            // Above 60 FPS most frames fall between ticks; draw moving objects part way from the
+            // previous tick to the latest by the leftover fraction so each frame still shows motion.
+            // A 60 FPS target renders one tick per frame and keeps drawing the latest state.
+            renderAlpha = framePacer.getTargetFps() == TICKS_PER_SECOND ? 1.0 : Math.max(0, Math.min(1, delta));
+            
+            // Update game timer (only during gameplay)
+            if (gameState == GameState.PLAYING && player != null) {
+                gameTimeSeconds = (now - gameStartTime) / 1_000_000_000.0;
+            }
+            
+            // Calculate FPS
+            frameCount++;
+            if (now - lastFPSTime >= 1_000_000_000L) {
+                currentFPS = frameCount;
+                frameCount = 0;
+                lastFPSTime = now;
             }
+            
+            repaint();
         }
     }
     
+    private void tick() {
+        long simulationStart = System.nanoTime();
+        // Starting or retrying recycles every bullet and particle, so it must not overlap an update
+        if (startRequested) {
+            startRequested = false;
+            startGame();
+        }
+        if (retryRequested) {
+            retryRequested = false;
+            if (gameState == GameState.GAME_OVER) {
+                startOverAfterGameOver();
+            }
+            retryLevel();
+        }
+        awaitPendingBackground();
+        AllocationTracker.beginUpdate();
+        savePositions();
+        update(1.0);
+        processEvents();
+        // Achievement events queued during the update are checked once here
+        if (achievementManager.evaluate()) {
+            pendingAchievements.addAll(achievementManager.getRecentlyUnlocked());
+            achievementNotificationTimer = ACHIEVEMENT_NOTIFICATION_DURATION;
+            achievementManager.clearRecentlyUnlocked();
+        }
+        lastSimulationNanos = System.nanoTime() - simulationStart;
+        // A run just ended (boss defeated or game over) - save progress. Its WIN or GAME_OVER screen
+        // pays the end-of-run reward on the way out, so the journal waits until that screen is left
+        if (gameState != lastTickState) {
+            if (lastTickState == GameState.PLAYING) {
+                if (gameState == GameState.WIN) {
+                    endedCause = RunJournal.Cause.CLEARED;
+                } else if (gameState == GameState.GAME_OVER) {
+                    endedCause = deathCause;
+                } else {
+                    endRun(RunJournal.Cause.QUIT);
+                }
+                requestSave();
+            } else if (endedCause != null && gameState != GameState.WIN && gameState != GameState.GAME_OVER) {
+                endRun(endedCause);
+                requestSave();
+            }
+            lastTickState = gameState;
+        }
+        if (gameState == GameState.PLAYING) {
+            AllocationTracker.endUpdate();
+            FrameProfiler.endUpdateFrame();
+        }
+        gradientTime += 0.02; // Animate gradient
+        
+        // Update escape timer
+        if (escapeTimer > 0) {
+            escapeTimer--;
+        }
+    }
+    
+    // Append the current run to the journal (once per run). A run that already ended in a clear or a
+    // death keeps that cause even if a restart is what finally journals it
+    private void endRun(RunJournal.Cause cause) {
+        if (!runActive) return;
+        runActive = false;
+        if (endedCause != null) {
+            cause = endedCause;
+        }
+        if (runJournal != null) {
+            runJournal.append(runLevel, gameData.getSurvivalTime(), totalGrazesThisRun,
+                              comboSystem.getRunMaxCombo(), gameData.getRunMoney() - runMoneyAtStart, cause);
+        }
+    }
+    
+    // Game over -> R: pay $1 per second survived, journal the run with it and start the next run's
+    // totals from zero (on the game thread, just before retryLevel)
+    private void startOverAfterGameOver() {
+        int survivalReward = gameData.getSurvivalTime() / 60;
+        gameData.addRunMoney(survivalReward);
+        gameData.addTotalMoney(survivalReward);
+        endRun(endedCause);
+        gameData.setScore(0);
+        gameData.setRunMoney(0);
+        gameData.setSurvivalTime(0);
+    }
+    
+    // Hold the simulation (on the game thread) until a newly started level's background is decoded,
+    // so the intro doesn't play over the fallback gradient; input and painting stay responsive
+    private void awaitPendingBackground() {
+        int level = pendingBackgroundLevel;
+        if (level == 0) return;
+        pendingBackgroundLevel = 0;
+        Renderer.prepareBackground(level);
+        Renderer.prefetchBackground(level + 1); // Decoded during the fight, ready for the next level
+    }
+    
+    // Record where everything starts this tick (see renderAlpha); objects spawned during the
+    // tick start out with both positions equal
+    private void savePositions() {
+        if (player != null) player.savePosition();
+        if (currentBoss != null) currentBoss.savePosition();
+        for (int i = 0, n = bullets.size(); i < n; i++) {
+            bullets.get(i).savePosition();
+        }
+        for (int i = 0, n = particles.size(); i < n; i++) {
+            particles.get(i).savePosition();
+        }
+        prevCameraX = cameraX;
+        prevCameraY = cameraY;
+    }
+    
+    // Unchanged progress is detected by SaveManager, so this is cheap to call often
+    private void requestSave() {
+        saveManager.requestSave(gameData, achievementManager, passiveUpgradeManager, qualityGovernor);
+    }
+    
     private void update(double deltaTime) {
         // Update item unlock animation timer (let it countdown for animation progress)
         if (itemUnlockTimer > 0) {
@@ -727,6 +1002,9 @@ public class Game extends JPanel implements Runnable {
         
         if (gameState != GameState.PLAYING) return;
         
+        // Picks up purchases, loadout changes and equips since the last tick (usually a no-op)
+        stats = DerivedStats.refresh(stats, gameData, passiveUpgradeManager, GRAZE_DISTANCE);
+        
         // Reset active item effect states each frame
         playerInvincible = false;
         dashSpeedMultiplier = 1.0;
@@ -750,9 +1028,8 @@ public class Game extends JPanel implements Runnable {
             gameData.incrementSurvivalTime();
             
             // Apply score multiplier from active item
-            ActiveItem item = gameData.getEquippedItem();
             int scoreGain = (int)deltaTime;
-            if (item != null && item.getType() == ActiveItem.ItemType.LUCKY_CHARM) {
+            if (stats.isLuckyCharmEquipped()) {
                 scoreGain = (int)(scoreGain * 1.5); // 50% bonus
             }
             gameData.addScore(scoreGain);
@@ -805,7 +1082,9 @@ public class Game extends JPanel implements Runnable {
         if (player != null) {
             // Only allow player control when intro pan is complete
             if (!introPanActive) {
+                long inputStart = FrameProfiler.begin();
                 player.update(keys, WIDTH, HEIGHT, deltaTime);
+                FrameProfiler.end(FrameProfiler.Phase.INPUT, inputStart);
             }
             
             // Handle intro sequence
@@ -835,16 +1114,16 @@ public class Game extends JPanel implements Runnable {
                         if (progress > 0.1 && Math.random() < 0.4) {
                             double angle = Math.PI / 2 + (Math.random() - 0.5) * 0.5;
                             double speed = 1 + Math.random() * 2;
-                            particles.add(new Particle(
+                            addParticle(
                                 currentBoss.getX() + (Math.random() - 0.5) * 30,
                                 currentBoss.getY() + currentBoss.getSize() / 2,
                                 Math.cos(angle) * speed,
                                 Math.sin(angle) * speed,
-                                new Color(255, 150, 0, 200),
+                                INTRO_JET_TRAIL,
                                 60 + (int)(Math.random() * 30),
                                 8.0 + Math.random() * 8.0,
                                 Particle.ParticleType.TRAIL
-                            ));
+                            );
                         }
                     }
                     
@@ -878,16 +1157,16 @@ public class Game extends JPanel implements Runnable {
                     
                     // Add engine glow particles as boss settles
                     if (currentBoss != null && Math.random() < 0.15) {
-                        particles.add(new Particle(
+                        addParticle(
                             currentBoss.getX() + (Math.random() - 0.5) * 40,
                             currentBoss.getY() + currentBoss.getSize() / 2,
                             (Math.random() - 0.5) * 0.5,
                             1 + Math.random() * 1.5,
-                            new Color(100, 150, 255, 180),
+                            ENGINE_GLOW,
                             40 + (int)(Math.random() * 20),
                             6.0 + Math.random() * 6.0,
                             Particle.ParticleType.SPARK
-                        ));
+                        );
                     }
                     
                 } else {
@@ -896,20 +1175,7 @@ public class Game extends JPanel implements Runnable {
                         // Just finished - add dramatic particle burst
                         screenShakeIntensity = 15; // Massive shake at the end
                         if (currentBoss != null) {
-                            for (int i = 0; i < 20; i++) {
-                                double angle = Math.random() * Math.PI * 2;
-                                double speed = 1 + Math.random() * 3;
-                                particles.add(new Particle(
-                                    currentBoss.getX(),
-                                    currentBoss.getY(),
-                                    Math.cos(angle) * speed,
-                                    Math.sin(angle) * speed,
-                                    new Color(255, 200, 100, 200),
-                                    30 + (int)(Math.random() * 30),
-                                    10.0 + Math.random() * 10.0,
-                                    Particle.ParticleType.EXPLOSION
-                                ));
-                            }
+                            events.emit(EventQueue.Type.BOSS_ARRIVED, currentBoss.getX(), currentBoss.getY());
                         }
                     }
                     
@@ -918,6 +1184,11 @@ public class Game extends JPanel implements Runnable {
                     cameraY = 0;
                 }
             } else {
+                if (fightSnapshotPending && currentBoss != null) {
+                    captureFightSnapshot();
+                    fightSnapshotPending = false;
+                }
+                
                 // Normal camera follow with slow smooth interpolation (only when intro is done)
                 double targetCameraX = 0;
                 double targetCameraY = 0;
@@ -957,7 +1228,7 @@ public class Game extends JPanel implements Runnable {
             }
             
             // Update combo system
-            comboSystem.update(deltaTime, passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.COMBO_DURATION));
+            comboSystem.update(deltaTime, stats.getComboTimeoutMultiplier());
             
             // Update damage numbers
             for (int i = damageNumbers.size() - 1; i >= 0; i--) {
@@ -1009,7 +1280,7 @@ public class Game extends JPanel implements Runnable {
                         addParticle(
                             finalX, finalY,
                             particleVX, particleVY,
-                            new Color(255, 150 + (int)(Math.random() * 50), 0),
+                            ROCKET_FLAMES[(int)(Math.random() * ROCKET_FLAMES.length)],
                             15 + (int)(Math.random() * 10),
                             6 + (int)(Math.random() * 6),
                             Particle.ParticleType.SPARK
@@ -1019,116 +1290,45 @@ public class Game extends JPanel implements Runnable {
             }
         }
         
-        // Update particles using iterator for efficient removal
-        for (java.util.Iterator<Particle> it = particles.iterator(); it.hasNext();) {
-            Particle p = it.next();
-            p.update(deltaTime);
-            if (!p.isAlive()) {
-                it.remove();
+        // Update particles (split across cores for huge counts), then drop the dead ones in
+        // one forward pass
+        long particlesStart = FrameProfiler.begin();
+        int particleCount = particles.size();
+        particleDeltaTime = deltaTime;
+        if (ParallelUpdater.shouldSplit(particleCount)) {
+            ParallelUpdater.forEachChunk(particleCount, particleAction);
+        } else {
+            updateParticles(0, particleCount);
+        }
+        int liveParticles = 0;
+        for (int i = 0; i < particleCount; i++) {
+            Particle p = particles.get(i);
+            if (p.isAlive()) {
+                particles.set(liveParticles++, p);
+            } else {
                 returnParticleToPool(p);
             }
         }
+        for (int i = particleCount - 1; i >= liveParticles; i--) {
+            particles.remove(i);
+        }
+        FrameProfiler.end(FrameProfiler.Phase.PARTICLES, particlesStart);
         
         // Check if player hit boss (only vulnerable during special window)
         if (currentBoss != null && player != null && player.collidesWith(currentBoss) && !bossDeathAnimation) {
             if (bossVulnerable) {
-                // TODO: Play sound effect - boss_hit.wav
-                
                 // Deal damage to boss using new health system
                 currentBoss.takeDamage();
-                int remainingHealth = currentBoss.getCurrentHealth();
-                
-                // Show damage number
-                damageNumbers.add(new DamageNumber("HIT! HP: " + remainingHealth, 
-                    currentBoss.getX(), currentBoss.getY() - 60, 
-                    new Color(255, 100, 100), 36));
                 
                 // Increment hit counter (for old visual effects)
                 bossHitCount++;
                 
-                // Progressive damage effects - more smoke and fire with each hit
-                int particleMultiplier = bossHitCount; // 1x, 2x, 3x particles
-                
-                // Create impact particles at collision point (between player and boss)
-                if (enableParticles) {
-                    double impactX = (player.getX() + currentBoss.getX()) / 2;
-                    double impactY = (player.getY() + currentBoss.getY()) / 2;
-                    
-                    // Bright white/yellow impact flash (scales with hit count)
-                    for (int i = 0; i < 30 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 2 + Math.random() * 6;
-                        Color impactColor = Math.random() < 0.5 ? IMPACT_WHITE : IMPACT_YELLOW;
-                        addParticle(
-                            impactX, impactY,
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            impactColor, 20, 8,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Smoke particles (more with each hit)
-                    for (int i = 0; i < 15 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 0.5 + Math.random() * 2;
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            new Color(80, 80, 80, 150), 40, 8,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Fire particles (more with each hit)
-                    for (int i = 0; i < 20 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 1 + Math.random() * 4;
-                        Color fireColor = Math.random() < 0.5 ? BOSS_FIRE : BOSS_FIRE_BRIGHT;
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            fireColor, 30, 5,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Metal debris particles (visual damage on plane)
-                    for (int i = 0; i < 25 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 2 + Math.random() * 5;
-                        Color debrisColor = new Color(160, 160, 170, 200);
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            debrisColor, 25, 4,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Sparks from plane damage
-                    for (int i = 0; i < 30 * particleMultiplier; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 3 + Math.random() * 6;
-                        Color sparkColor = new Color(255, 220, 100, 220);
-                        addParticle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            sparkColor, 20, 3,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    
-                    // Large explosion rings at impact (scales with hits)
-                    for (int i = 0; i < 5; i++) {
-                        addParticle(
-                            impactX, impactY, 0, 0,
-                            new Color(255, 150 - i * 20, 50, 220 - i * 40), 
-                            40 + i * 10, 
-                            40 + i * 25 + (particleMultiplier * 10),
-                            Particle.ParticleType.EXPLOSION
-                        );
-                    }
-                }
+                EventQueue.Event hit = events.emit(EventQueue.Type.BOSS_HIT,
+                    (player.getX() + currentBoss.getX()) / 2, (player.getY() + currentBoss.getY()) / 2);
+                hit.x2 = currentBoss.getX();
+                hit.y2 = currentBoss.getY();
+                hit.count = bossHitCount;
+                hit.value = currentBoss.getCurrentHealth();
                 
                 // Reset vulnerability
                 bossVulnerable = false;
@@ -1154,31 +1354,23 @@ public class Game extends JPanel implements Runnable {
                     achievementManager.updateProgress(Achievement.AchievementType.GRAZE_COUNT, totalGrazesThisRun);
                     achievementManager.updateProgress(Achievement.AchievementType.HIGH_COMBO, comboSystem.getMaxCombo());
                     
-                    // Check for newly unlocked achievements
-                    List<Achievement> newlyUnlocked = achievementManager.getRecentlyUnlocked();
-                    if (!newlyUnlocked.isEmpty()) {
-                        pendingAchievements.addAll(newlyUnlocked);
-                        achievementNotificationTimer = ACHIEVEMENT_NOTIFICATION_DURATION;
-                        achievementManager.clearRecentlyUnlocked();
-                    }
-                    
                     // Award points and money with passive multipliers
                     int winBonus = 1000 + (gameData.getCurrentLevel() * 500);
                     // Apply combo multiplier
                     winBonus = (int)(winBonus * comboSystem.getMultiplier());
                     // Apply score multiplier passive
-                    winBonus = (int)(winBonus * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.SCORE_MULTIPLIER));
+                    winBonus = (int)(winBonus * stats.getScoreMultiplier());
                     gameData.addScore(winBonus);
                     
                     int moneyReward = currentBoss.getMoneyReward();
                     
                     // Apply LUCKY_CHARM multiplier if equipped
-                    if (equippedItem != null && equippedItem.getType() == ActiveItem.ItemType.LUCKY_CHARM) {
+                    if (stats.isLuckyCharmEquipped()) {
                         moneyReward = (int)(moneyReward * 1.5); // 50% bonus
                     }
                     
                     // Apply money gain passive multiplier
-                    moneyReward = (int)(moneyReward * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.MONEY_GAIN));
+                    moneyReward = (int)(moneyReward * stats.getMoneyMultiplier());
                     
                     gameData.addRunMoney(moneyReward);
                     gameData.addTotalMoney(moneyReward);
@@ -1197,42 +1389,9 @@ public class Game extends JPanel implements Runnable {
                     player = null;
                     
                     // Massive final explosion
-                    screenShakeIntensity = 25;
-                
-                // Create massive fiery explosion particles
-                int explosionParticleCount = bullets.size() > 200 ? 50 : 100; // Reduce at high bullet density
-                for (int i = 0; i < explosionParticleCount; i++) {
-                    double angle = Math.random() * TWO_PI;
-                    double speed = 3 + Math.random() * 8;
-                    Color fireColor;
-                    double rand = Math.random();
-                    if (rand < 0.4) {
-                        fireColor = FIRE_ORANGE;
-                    } else if (rand < 0.7) {
-                        fireColor = FIRE_YELLOW;
-                    } else {
-                        fireColor = FIRE_RED;
-                    }
-                    addParticle(
-                        currentBoss.getX(), currentBoss.getY(),
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        fireColor, 50 + (int)(Math.random() * 30), 6,
-                        Particle.ParticleType.SPARK
-                    );
-                }
-                
-                // Multiple explosion rings
-                for (int i = 0; i < 5; i++) {
-                    addParticle(
-                        currentBoss.getX(), currentBoss.getY(), 0, 0,
-                        new Color(255, 150 - i * 20, 0), 40 + i * 15, 40 + i * 25,
-                        Particle.ParticleType.EXPLOSION
-                    );
-                }
+                    screenShakeIntensity = 25; // processEvents adds the explosion (BOSS_HIT with no health left)
                 } else {
-                    // Non-fatal hit - delay respawn and show explosion
-                    double hitX = (player.getX() + currentBoss.getX()) / 2;
-                    double hitY = (player.getY() + currentBoss.getY()) / 2;
+                    // Non-fatal hit - delay respawn (processEvents adds the explosion at the impact)
                     player = null; // Remove player temporarily
                     waitingForRespawn = true;
                     respawnDelayTimer = RESPAWN_DELAY;
@@ -1240,33 +1399,6 @@ public class Game extends JPanel implements Runnable {
                     // Huge screen shake for explosion
                     screenShakeIntensity = 20;
                     
-                    // Create explosion at hit location
-                    if (enableParticles) {
-                        // Large explosion particles
-                        for (int i = 0; i < 50; i++) {
-                            double angle = Math.random() * TWO_PI;
-                            double speed = 2 + Math.random() * 6;
-                            Color expColor = Math.random() < 0.5 ? FIRE_ORANGE : FIRE_YELLOW;
-                            addParticle(
-                                hitX, hitY,
-                                Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                expColor, 40, 10,
-                                Particle.ParticleType.SPARK
-                            );
-                        }
-                        
-                        // Explosion rings
-                        for (int i = 0; i < 4; i++) {
-                            addParticle(
-                                hitX, hitY, 0, 0,
-                                new Color(255, 150 - i * 30, 50, 220 - i * 50), 
-                                30 + i * 10, 
-                                30 + i * 15,
-                                Particle.ParticleType.EXPLOSION
-                            );
-                        }
-                    }
-                    
                     // Reset vulnerability
                     bossVulnerable = false;
                     invulnerabilityTimer = 90; // 1.5 seconds before next vulnerability window
@@ -1279,6 +1411,7 @@ public class Game extends JPanel implements Runnable {
                 // Hit boss when not vulnerable - player dies
                 screenShakeIntensity = 10;
                 tookDamageThisBoss = true;
+                deathCause = RunJournal.Cause.BOSS_COLLISION;
                 gameState = GameState.GAME_OVER;
                 return;
             }
@@ -1319,31 +1452,19 @@ public class Game extends JPanel implements Runnable {
             
             // Smoke trails
             if (enableParticles && Math.random() < 0.3 * deltaTime) {
-                particles.add(new Particle(
+                addParticle(
                     currentBoss.getX() + (Math.random() - 0.5) * 60,
                     currentBoss.getY() + (Math.random() - 0.5) * 60,
                     (Math.random() - 0.5) * 2, 2 + Math.random() * 3,
-                    new Color(80, 80, 80, 150), 40, 8,
+                    SMOKE_GRAY, 40, 8,
                     Particle.ParticleType.SPARK
-                ));
+                );
             }
             
             // Final explosion and transition to win screen
             if (deathAnimationTimer <= 0) {
                 // Final massive explosion
-                if (enableParticles) {
-                    for (int i = 0; i < 80; i++) {
-                        double angle = Math.random() * Math.PI * 2;
-                        double speed = 2 + Math.random() * 6;
-                        Color fireColor = new Color(255, (int)(100 + Math.random() * 155), 0);
-                        particles.add(new Particle(
-                            currentBoss.getX(), currentBoss.getY(),
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            fireColor, 60, 8,
-                            Particle.ParticleType.SPARK
-                        ));
-                    }
-                }
+                events.emit(EventQueue.Type.BOSS_DESTROYED, currentBoss.getX(), currentBoss.getY());
                 
                 screenShakeIntensity = 20;
                 
@@ -1387,7 +1508,7 @@ public class Game extends JPanel implements Runnable {
             
             bossVulnerable = true;
             // Base duration + 60 frames (1 second) per upgrade level
-            vulnerabilityTimer = VULNERABILITY_DURATION + (gameData.getActiveAttackWindowLevel() * 60);
+            vulnerabilityTimer = VULNERABILITY_DURATION + stats.getVulnerabilityBonusTicks();
             // Visual indicator - sparkles around boss
             if (enableParticles) {
                 // Larger burst of sparkles when vulnerability opens
@@ -1424,8 +1545,10 @@ public class Game extends JPanel implements Runnable {
         
         // Update boss with delta time (but not during death animation, intro, or respawn delay)
         if (currentBoss != null && !bossDeathAnimation && !introPanActive && player != null) {
-            currentBoss.update(bullets, player, WIDTH, HEIGHT, deltaTime, particles);
+            long bossStart = FrameProfiler.begin();
+            currentBoss.update(spawner, player, WIDTH, HEIGHT, deltaTime, particles);
             beamAttacks = currentBoss.getBeamAttacks();
+            FrameProfiler.end(FrameProfiler.Phase.BOSS_UPDATE, bossStart);
             
             // Add continuous flame and smoke particles from damaged boss
             if (bossHitCount > 0 && enableParticles) {
@@ -1456,7 +1579,7 @@ public class Game extends JPanel implements Runnable {
                         currentBoss.getY() + (Math.random() - 0.5) * 25,
                         Math.cos(angle) * speed,
                         Math.sin(angle) * speed,
-                        new Color(60, 60, 60, 180), 50 + (int)(Math.random() * 30), 8 + Math.random() * 5,
+                        DAMAGE_SMOKE, 50 + (int)(Math.random() * 30), 8 + Math.random() * 5,
                         Particle.ParticleType.TRAIL
                     );
                 }
@@ -1475,29 +1598,7 @@ public class Game extends JPanel implements Runnable {
                 respawnInvincibilityTimer = 180; // 3 seconds of invincibility after respawn
                 waitingForRespawn = false;
                 
-                // Add respawn flash effect
-                if (enableParticles) {
-                    // Bright spawn flash at new player position
-                    for (int i = 0; i < 60; i++) {
-                        double angle = Math.random() * TWO_PI;
-                        double speed = 3 + Math.random() * 7;
-                        Color spawnColor = new Color(100, 200, 255, 220);
-                        addParticle(
-                            WIDTH / 2, HEIGHT - 200,
-                            Math.cos(angle) * speed, Math.sin(angle) * speed,
-                            spawnColor, 35, 12,
-                            Particle.ParticleType.SPARK
-                        );
-                    }
-                    // Shield activation rings
-                    for (int i = 0; i < 4; i++) {
-                        addParticle(
-                            WIDTH / 2, HEIGHT - 200, 0, 0,
-                            new Color(136, 192, 208, 220 - i * 45), 40 + i * 12, 35 + i * 20,
-                            Particle.ParticleType.EXPLOSION
-                        );
-                    }
-                }
+                events.emit(EventQueue.Type.PLAYER_RESPAWNED, player.getX(), player.getY());
             }
         }
         
@@ -1505,44 +1606,43 @@ public class Game extends JPanel implements Runnable {
         for (BeamAttack beam : beamAttacks) {
             if (player != null && beam.collidesWith(player)) {
                 // Hit by beam - game over
-                // TODO: Play sound effect - player_death.wav
-                
-                // Create death particles
-                for (int j = 0; j < 20; j++) {
-                    double angle = Math.random() * TWO_PI;
-                    double speed = 1 + Math.random() * 3;
-                    addParticle(
-                        player.getX(), player.getY(),
-                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                        PLAYER_DEATH_RED, 30, 6,
-                        Particle.ParticleType.SPARK
-                    );
-                }
+                events.emit(EventQueue.Type.PLAYER_DIED, player.getX(), player.getY());
                 screenShakeIntensity = 10;
+                deathCause = RunJournal.Cause.BEAM;
                 gameState = GameState.GAME_OVER;
                 return;
             }
         }
         
         // Update bullets
-        for (int i = bullets.size() - 1; i >= 0; i--) {
+        long bulletStart = FrameProfiler.begin();
+        spawner.release(bullets, bulletPool); // Queued spawns join before the update, like bullets added directly
+        boolean bulletSlowActive = stats.isBulletSlowActive();
+        double bulletSlowFactor = stats.getBulletSlowFactor();
+        boolean timeSlowActive = equippedItem != null && equippedItem.isActive() &&
+                                 equippedItem.getType() == ActiveItem.ItemType.TIME_SLOW;
+        double slowFactor = 1.0;
+        if (bulletSlowActive) {
+            slowFactor *= bulletSlowFactor; // Bullet slow upgrade (0.1% per level)
+        }
+        if (timeSlowActive) {
+            slowFactor *= 0.5; // Time slow item: 50% speed
+        }
+        
+        // Movement, one loop per bullet type (split across cores for huge counts); the update
+        // also flags what each bullet needs, and this pass acts on the flags serially, back to
+        // front as before, so spawns, events and random draws keep their order
+        bulletBuckets.update(bullets, slowFactor, player, WIDTH, HEIGHT, deltaTime);
+        byte[] bulletFlags = bulletBuckets.getFlags();
+        int updatedCount = bullets.size();
+        int removedCount = 0;
+        for (int i = updatedCount - 1; i >= 0; i--) {
+            int flags = bulletFlags[i];
+            if (flags == 0) continue;
             Bullet bullet = bullets.get(i);
             
-            // Apply bullet slow upgrade (reduced to 0.1% per level)
-            if (gameData.getActiveBulletSlowLevel() > 0) {
-                bullet.applySlow(0.999 - (gameData.getActiveBulletSlowLevel() * 0.0001));
-            }
-            
-            // Apply time slow from active item
-            if (equippedItem != null && equippedItem.isActive() && 
-                equippedItem.getType() == ActiveItem.ItemType.TIME_SLOW) {
-                bullet.applySlow(0.5); // 50% speed
-            }
-            
-            bullet.update(player, WIDTH, HEIGHT, deltaTime);
-            
             // Spawn trail particles for fast-moving bullets
-            if (enableParticles && bullet.shouldSpawnTrail() && Math.random() < 0.10 * deltaTime) {
+            if (enableParticles && (flags & BulletBuckets.TRAIL) != 0 && Math.random() < 0.10 * deltaTime) {
                 addParticle(
                     bullet.getX(), bullet.getY(),
                     -bullet.getVX() * 0.2, -bullet.getVY() * 0.2,
@@ -1552,29 +1652,20 @@ public class Game extends JPanel implements Runnable {
             }
             
             // Check if explosive bullets should explode
-            if (bullet.shouldExplode()) {
-                // TODO: Play sound effect - explosion.wav (volume/pitch based on bullet type)
-                
-                // Create explosion particles with shockwave
-                if (enableParticles) {
-                    // Scale down particle count if too many bullets
-                    List<Particle> explosionParticles = bullet.createExplosionParticles();
-                    int particlesToAdd = bullets.size() > 200 ? explosionParticles.size() / 2 : explosionParticles.size();
-                    for (int j = 0; j < particlesToAdd && particles.size() < MAX_PARTICLES; j++) {
-                        particles.add(explosionParticles.get(j));
-                    }
-                }
+            if ((flags & BulletBuckets.EXPLODE) != 0) {
+                EventQueue.Event exploded = events.emit(EventQueue.Type.BULLET_EXPLODED, bullet.getX(), bullet.getY());
+                exploded.bulletType = bullet.getType();
+                exploded.count = bullets.size() - removedCount;
                 
-                // Create fragments from explosion
-                List<Bullet> fragments = bullet.createFragments();
-                bullets.addAll(fragments);
-                bullets.remove(i);
+                // Fragments are queued and join over the next ticks
+                exploded.value = bullet.spawnFragments(spawner);
+                removedCount++;
                 returnBulletToPool(bullet);
                 continue;
             }
             
             // Check if splitting bullet should split
-            if (bullet.shouldSplit()) {
+            if ((flags & BulletBuckets.SPLIT) != 0) {
                 bullet.markAsSplit();
                 double baseAngle = Math.atan2(bullet.getVY(), bullet.getVX());
                 for (int j = 0; j < 4; j++) {
@@ -1589,20 +1680,55 @@ public class Game extends JPanel implements Runnable {
             }
             
             // Remove off-screen bullets and return to pool
-            if (bullet.isOffScreen(WIDTH, HEIGHT)) {
-                bullets.remove(i);
+            if ((flags & BulletBuckets.OFF_SCREEN) != 0) {
+                removedCount++;
                 returnBulletToPool(bullet);
             }
         }
         
+        // Close the gaps in one forward pass instead of shifting the list on every removal;
+        // split children appended past updatedCount are always kept
+        if (removedCount > 0) {
+            int kept = 0;
+            for (int i = 0, size = bullets.size(); i < size; i++) {
+                if (i < updatedCount && (bulletFlags[i] & (BulletBuckets.EXPLODE | BulletBuckets.OFF_SCREEN)) != 0) continue;
+                bullets.set(kept++, bullets.get(i));
+            }
+            for (int i = bullets.size() - 1; i >= kept; i--) {
+                bullets.remove(i);
+            }
+        }
+        
+        FrameProfiler.end(FrameProfiler.Phase.BULLET_UPDATE, bulletStart);
+        
         // Rebuild spatial grid after all bullet updates for optimized collision
-        rebuildBulletGrid();
+        long gridStart = FrameProfiler.begin();
+        bulletGrid.rebuild(bullets);
+        FrameProfiler.end(FrameProfiler.Phase.GRID_REBUILD, gridStart);
         
         // Check collisions using spatial grid (much faster for many bullets!)
+        long collisionStart = FrameProfiler.begin();
+        
+        // Laser Beam item cuts the bullets in its path first, so none of them can still hit the player
+        if (player != null && equippedItem != null && equippedItem.isActive() &&
+            equippedItem.getType() == ActiveItem.ItemType.LASER_BEAM) {
+            cutLaserPath();
+        }
+        
         if (player != null) {
-            List<Bullet> nearbyBullets = getNearbyBullets(player.getX(), player.getY());
+            double dodgeChance = stats.getDodgeChance();
+            double grazeRadiusSq = stats.getGrazeRadiusSq();
+            double playerRadius = player.getSize() / 2.0;
+            double playerRadiusSq = playerRadius * playerRadius;
+            // Everything that could hit or graze the player (the grid adds each bullet's own radius)
+            double reach = Math.max(Math.sqrt(grazeRadiusSq), player.getSize() * 0.3);
+            List<Bullet> nearbyBullets = nearbyScratch;
+            nearbyBullets.clear();
+            bulletGrid.queryRadius(player.getX(), player.getY(), reach, nearbyBullets);
             for (Bullet bullet : nearbyBullets) {
-                if (bullet.isActive() && bullet.collidesWith(player)) {
+                if (!bullet.isActive()) continue; // Still in its warning phase
+                
+                if (bullet.collidesWith(player)) {
                     // Check for active item invincibility (DASH or INVINCIBILITY)
                     if (playerInvincible) {
                         // Invincible - bullets pass through
@@ -1614,107 +1740,337 @@ public class Game extends JPanel implements Runnable {
                         // Shield blocks the hit
                         shieldActive = false;
                         bullets.remove(bullet);
+                        bulletGrid.remove(bullet);
                         returnBulletToPool(bullet);
-                        
-                        // Create shield break particles
-                        if (enableParticles) {
-                            for (int j = 0; j < 15; j++) {
-                                double angle = Math.random() * TWO_PI;
-                                double speed = 2 + Math.random() * 4;
-                                addParticle(
-                                    player.getX(), player.getY(),
-                                    Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                    new Color(136, 192, 208), 25, 6,
-                                    Particle.ParticleType.SPARK
-                                );
-                            }
-                        }
-                        
+                        events.emit(EventQueue.Type.SHIELD_BROKEN, player.getX(), player.getY());
                         screenShakeIntensity = 5;
                         continue;
                     }
                     
                     // Lucky Dodge chance - phase through bullets
-                    int luckyDodgeLevel = gameData.getActiveLuckyDodgeLevel();
-                    if (luckyDodgeLevel > 0) {
-                        double dodgeChance = luckyDodgeLevel * 0.05; // 5% per level
+                    if (dodgeChance > 0) {
                         if (Math.random() < dodgeChance) {
-                            // TODO: Play sound effect - lucky_dodge.wav (pitch up with combo)
-                            
                             // Lucky dodge! Trigger flicker animation
                             player.triggerFlicker();
                             bullets.remove(bullet);
+                            bulletGrid.remove(bullet);
                             returnBulletToPool(bullet);
                             
                             // Increment dodge combo
                             dodgeCombo++;
                             comboTimer = COMBO_TIMEOUT;
-                            
-                            // Add score based on combo
-                            gameData.addScore(10 * dodgeCombo);
-                            
-                            // Create dodge particles
-                            if (enableParticles) {
-                                for (int j = 0; j < 8; j++) {
-                                    double angle = TWO_PI * j / 8;
-                                    addParticle(
-                                        player.getX(), player.getY(),
-                                        Math.cos(angle) * 2, Math.sin(angle) * 2,
-                                        DODGE_GREEN, 20, 5,
-                                        Particle.ParticleType.DODGE
-                                    );
-                                }
-                            }
-                            
+                            events.emit(EventQueue.Type.LUCKY_DODGE, player.getX(), player.getY()).count = dodgeCombo;
                             continue;
                         }
                     }
                     
                     // No dodge - game over
-                    // TODO: Play sound effect - player_death.wav
+                    events.emit(EventQueue.Type.PLAYER_DIED, player.getX(), player.getY());
+                    screenShakeIntensity = 10;
+                    tookDamageThisBoss = true;
+                    deathCause = RunJournal.Cause.BULLET;
+                    gameState = GameState.GAME_OVER;
+                    return;
+                }
+                
+                // Check for graze (near miss)
+                double dx = bullet.getX() - player.getX();
+                double dy = bullet.getY() - player.getY();
+                double distSq = dx * dx + dy * dy;
+                if (!bullet.hasGrazed() && distSq < grazeRadiusSq && distSq > playerRadiusSq) {
+                    bullet.setGrazed(true);
+                    totalGrazesThisRun++;
+                    events.emit(EventQueue.Type.PLAYER_GRAZED, bullet.getX(), bullet.getY());
+                }
+            }
+        }
+        FrameProfiler.end(FrameProfiler.Phase.COLLISION, collisionStart);
+    }
+        
+    // Run the side effects of everything the simulation reported this tick: score and combo first,
+    // then effects. Particle work is skipped once the particle cap is reached.
+    private void processEvents() {
+        EventQueue.Event event;
+        while ((event = events.poll()) != null) {
+            switch (event.getType()) {
+                case PLAYER_GRAZED:
+                    comboSystem.addCombo();
+                    gameData.addScore((int)(10 * comboSystem.getMultiplier())); // Score with combo multiplier
+                    if (enableParticles) {
+                        addParticle(event.getX(), event.getY(), 0, -1, GRAZE_BLUE, 15, 3, Particle.ParticleType.SPARK);
+                    }
+                    break;
                     
-                    // Create death particles
+                case LUCKY_DODGE:
+                    // TODO: Play sound effect - lucky_dodge.wav (pitch up with combo)
+                    gameData.addScore(10 * event.getCount()); // Score based on dodge combo
                     if (enableParticles) {
-                        for (int j = 0; j < 20; j++) {
+                        for (int j = 0; j < 8; j++) {
+                            double angle = TWO_PI * j / 8;
+                            addParticle(
+                                event.getX(), event.getY(),
+                                Math.cos(angle) * 2, Math.sin(angle) * 2,
+                                DODGE_GREEN, 20, 5,
+                                Particle.ParticleType.DODGE
+                            );
+                        }
+                    }
+                    break;
+                    
+                case SHIELD_BROKEN:
+                    if (enableParticles) {
+                        for (int j = 0; j < 15 && particles.size() < MAX_PARTICLES; j++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 2 + Math.random() * 4;
+                            addParticle(
+                                event.getX(), event.getY(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                SHIELD_BREAK_BLUE, 25, 6,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                    }
+                    break;
+                    
+                case PLAYER_DIED:
+                    // TODO: Play sound effect - player_death.wav
+                    if (enableParticles) {
+                        for (int j = 0; j < 20 && particles.size() < MAX_PARTICLES; j++) {
                             double angle = Math.random() * TWO_PI;
                             double speed = 1 + Math.random() * 3;
                             addParticle(
-                                player.getX(), player.getY(),
+                                event.getX(), event.getY(),
                                 Math.cos(angle) * speed, Math.sin(angle) * speed,
                                 PLAYER_DEATH_RED, 30, 6,
                                 Particle.ParticleType.SPARK
                             );
                         }
                     }
-                    screenShakeIntensity = 10;
-                    tookDamageThisBoss = true;
-                    gameState = GameState.GAME_OVER;
-                    return;
+                    break;
+                    
+                case BULLET_EXPLODED: {
+                    // TODO: Play sound effect - explosion.wav (volume/pitch based on bullet type)
+                    int particlesAdded = enableParticles ? spawnExplosion(event.getX(), event.getY(), event.getBulletType(), event.getCount() > 200) : 0;
+                    GameEvents.explosion(event.getBulletType(), particlesAdded, event.getValue());
+                    break;
                 }
-                
-                // Check for graze (near miss)
-                double grazeRadius = GRAZE_DISTANCE * passiveUpgradeManager.getMultiplier(PassiveUpgrade.UpgradeType.GRAZE_RADIUS);
-                double dist = Math.sqrt(Math.pow(bullet.getX() - player.getX(), 2) + Math.pow(bullet.getY() - player.getY(), 2));
-                if (!bullet.hasGrazed() && dist < grazeRadius && dist > player.getSize() / 2.0) {
-                    bullet.setGrazed(true);
-                    totalGrazesThisRun++;
-                    comboSystem.addCombo();
                     
-                    // Add score with combo multiplier
-                    int grazeScore = (int)(10 * comboSystem.getMultiplier());
-                    gameData.addScore(grazeScore);
+                case BOSS_HIT: {
+                    // TODO: Play sound effect - boss_hit.wav
+                    damageNumbers.add(new DamageNumber("HIT! HP: " + event.getValue(),
+                        event.getX2(), event.getY2() - 60, DAMAGE_NUMBER_RED, 36));
                     
-                    // Create graze particle effect
+                    // Progressive damage effects - more smoke and fire with each hit (1x, 2x, 3x particles)
+                    int hits = event.getCount();
                     if (enableParticles) {
-                        addParticle(bullet.getX(), bullet.getY(), 0, -1,
-                            new Color(100, 200, 255), 15, 3,
-                            Particle.ParticleType.SPARK);
+                        // Bright white/yellow impact flash (scales with hit count)
+                        for (int i = 0; i < 30 * hits; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 2 + Math.random() * 6;
+                            Color impactColor = Math.random() < 0.5 ? IMPACT_WHITE : IMPACT_YELLOW;
+                            addParticle(
+                                event.getX(), event.getY(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                impactColor, 20, 8,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        
+                        // Smoke particles (more with each hit)
+                        for (int i = 0; i < 15 * hits; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 0.5 + Math.random() * 2;
+                            addParticle(
+                                event.getX2(), event.getY2(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                SMOKE_GRAY, 40, 8,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        
+                        // Fire particles (more with each hit)
+                        for (int i = 0; i < 20 * hits; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 1 + Math.random() * 4;
+                            Color fireColor = Math.random() < 0.5 ? BOSS_FIRE : BOSS_FIRE_BRIGHT;
+                            addParticle(
+                                event.getX2(), event.getY2(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                fireColor, 30, 5,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        
+                        // Metal debris particles (visual damage on plane)
+                        for (int i = 0; i < 25 * hits; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 2 + Math.random() * 5;
+                            addParticle(
+                                event.getX2(), event.getY2(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                BOSS_DEBRIS, 25, 4,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        
+                        // Sparks from plane damage
+                        for (int i = 0; i < 30 * hits; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 3 + Math.random() * 6;
+                            addParticle(
+                                event.getX2(), event.getY2(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                BOSS_SPARK, 20, 3,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        
+                        // Large explosion rings at impact (scales with hits)
+                        for (int i = 0; i < 5; i++) {
+                            addParticle(
+                                event.getX(), event.getY(), 0, 0,
+                                BOSS_HIT_RINGS[i], 
+                                40 + i * 10, 
+                                40 + i * 25 + (hits * 10),
+                                Particle.ParticleType.EXPLOSION
+                            );
+                        }
+                    }
+                    
+                    if (event.getValue() <= 0) {
+                        // Killing blow: massive fiery explosion on the boss
+                        int explosionParticleCount = bullets.size() > 200 ? 50 : 100; // Reduce at high bullet density
+                        for (int i = 0; i < explosionParticleCount && particles.size() < MAX_PARTICLES; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 3 + Math.random() * 8;
+                            double rand = Math.random();
+                            Color fireColor = rand < 0.4 ? FIRE_ORANGE : rand < 0.7 ? FIRE_YELLOW : FIRE_RED;
+                            addParticle(
+                                event.getX2(), event.getY2(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                fireColor, 50 + (int)(Math.random() * 30), 6,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        for (int i = 0; i < BOSS_KILL_RINGS.length; i++) {
+                            addParticle(
+                                event.getX2(), event.getY2(), 0, 0,
+                                BOSS_KILL_RINGS[i], 40 + i * 15, 40 + i * 25,
+                                Particle.ParticleType.EXPLOSION
+                            );
+                        }
+                    } else if (enableParticles) {
+                        // The player's rocket blows up at the impact and respawns later
+                        for (int i = 0; i < 50 && particles.size() < MAX_PARTICLES; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 2 + Math.random() * 6;
+                            Color expColor = Math.random() < 0.5 ? FIRE_ORANGE : FIRE_YELLOW;
+                            addParticle(
+                                event.getX(), event.getY(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                expColor, 40, 10,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        for (int i = 0; i < IMPACT_RINGS.length; i++) {
+                            addParticle(
+                                event.getX(), event.getY(), 0, 0,
+                                IMPACT_RINGS[i], 30 + i * 10, 30 + i * 15,
+                                Particle.ParticleType.EXPLOSION
+                            );
+                        }
                     }
+                    break;
                 }
+                    
+                case BOSS_ARRIVED:
+                    // Dramatic burst as the boss settles after its entrance
+                    for (int i = 0; i < 20 && particles.size() < MAX_PARTICLES; i++) {
+                        double angle = Math.random() * TWO_PI;
+                        double speed = 1 + Math.random() * 3;
+                        addParticle(
+                            event.getX(), event.getY(),
+                            Math.cos(angle) * speed, Math.sin(angle) * speed,
+                            ARRIVAL_BURST, 30 + (int)(Math.random() * 30), 10.0 + Math.random() * 10.0,
+                            Particle.ParticleType.EXPLOSION
+                        );
+                    }
+                    break;
+                    
+                case BOSS_DESTROYED:
+                    if (enableParticles) {
+                        for (int i = 0; i < 80 && particles.size() < MAX_PARTICLES; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 2 + Math.random() * 6;
+                            addParticle(
+                                event.getX(), event.getY(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                WRECK_FIRE[(int)(Math.random() * WRECK_FIRE.length)], 60, 8,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                    }
+                    break;
+                    
+                case PLAYER_RESPAWNED:
+                    if (enableParticles) {
+                        // Bright spawn flash at the new player position
+                        for (int i = 0; i < 60 && particles.size() < MAX_PARTICLES; i++) {
+                            double angle = Math.random() * TWO_PI;
+                            double speed = 3 + Math.random() * 7;
+                            addParticle(
+                                event.getX(), event.getY(),
+                                Math.cos(angle) * speed, Math.sin(angle) * speed,
+                                SPAWN_FLASH, 35, 12,
+                                Particle.ParticleType.SPARK
+                            );
+                        }
+                        // Shield activation rings
+                        for (int i = 0; i < SHIELD_RINGS.length; i++) {
+                            addParticle(
+                                event.getX(), event.getY(), 0, 0,
+                                SHIELD_RINGS[i], 40 + i * 12, 35 + i * 20,
+                                Particle.ParticleType.EXPLOSION
+                            );
+                        }
+                    }
+                    break;
             }
         }
     }
+    
+    // Fire burst plus shockwave rings for a detonated bullet; returns how many particles were added
+    private int spawnExplosion(double x, double y, Bullet.BulletType type, boolean reduced) {
+        int particleCount = 15;
+        int rings = 2;
+        int baseSize = 30;
+        if (type == Bullet.BulletType.NUKE) {
+            particleCount = 40;
+            rings = 4;
+            baseSize = 60;
+        } else if (type == Bullet.BulletType.GRENADE) {
+            particleCount = 25;
+            rings = 3;
+            baseSize = 40;
+        }
+        if (reduced) {
+            particleCount /= 2; // Scale down when the screen is already full of bullets
+        }
         
+        int before = particles.size();
+        for (int i = 0; i < particleCount && particles.size() < MAX_PARTICLES; i++) {
+            double angle = Math.random() * TWO_PI;
+            double speed = 1 + Math.random() * 4;
+            double rand = Math.random();
+            Color fireColor = rand < 0.4 ? FIRE_ORANGE : rand < 0.7 ? FIRE_YELLOW : FIRE_RED;
+            addParticle(x, y, Math.cos(angle) * speed, Math.sin(angle) * speed, fireColor, 30, 5, Particle.ParticleType.SPARK);
+        }
+        for (int i = 0; i < rings; i++) {
+            addParticle(x, y, 0, 0, EXPLOSION_RINGS[i], 35 + i * 10, baseSize + i * 20, Particle.ParticleType.EXPLOSION);
+        }
+        return particles.size() - before;
+    }
+    
     // Bullet pooling methods
     private Bullet getBulletFromPool() {
         if (bulletPool.isEmpty()) {
@@ -1729,6 +2085,13 @@ public class Game extends JPanel implements Runnable {
         }
     }
     
+    // Advance particles [from, to) one tick; touches nothing but the particles themselves
+    private void updateParticles(int from, int to) {
+        for (int i = from; i < to; i++) {
+            particles.get(i).update(particleDeltaTime);
+        }
+    }
+    
     // Particle pooling methods
     private Particle getParticleFromPool() {
         if (particlePool.isEmpty()) {
@@ -1753,8 +2116,10 @@ public class Game extends JPanel implements Runnable {
     
     // Check for close calls with bullets (graze detection)
     private void checkBulletGrazes(Player player) {
-        List<Bullet> nearbyBullets = getNearbyBullets(player.getX(), player.getY());
         double playerRadius = player.getSize() / 2.0;
+        List<Bullet> nearbyBullets = nearbyScratch;
+        nearbyBullets.clear();
+        bulletGrid.queryRadius(player.getX(), player.getY(), playerRadius + 4.0 + GRAZE_DISTANCE, nearbyBullets);
         
         for (Bullet bullet : nearbyBullets) {
             if (bullet.hasGrazed()) continue; // Only count each graze once
@@ -1784,7 +2149,7 @@ public class Game extends JPanel implements Runnable {
                             player.getY() + Math.sin(angle) * playerRadius,
                             Math.cos(angle) * speed,
                             Math.sin(angle) * speed,
-                            new Color(100, 200, 255, 200),
+                            GRAZE_GLINT,
                             20, 3,
                             Particle.ParticleType.SPARK
                         );
@@ -1794,42 +2159,43 @@ public class Game extends JPanel implements Runnable {
         }
     }
     
-    // Spatial grid methods for optimized collision detection
-    private int getGridKey(double x, double y) {
-        int gridX = (int)(x / GRID_CELL_SIZE);
-        int gridY = (int)(y / GRID_CELL_SIZE);
-        return gridX * 10000 + gridY; // Simple hash
-    }
-    
-    private void rebuildBulletGrid() {
-        bulletGrid.clear();
-        for (Bullet bullet : bullets) {
-            if (bullet.isActive()) {
-                int key = getGridKey(bullet.getX(), bullet.getY());
-                bulletGrid.computeIfAbsent(key, k -> new ArrayList<>()).add(bullet);
-            }
-        }
-    }
-    
-    private List<Bullet> getNearbyBullets(double x, double y) {
-        List<Bullet> nearby = new ArrayList<>();
-        // Check 3x3 grid around player
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                int checkX = (int)(x / GRID_CELL_SIZE) + dx;
-                int checkY = (int)(y / GRID_CELL_SIZE) + dy;
-                int key = checkX * 10000 + checkY;
-                List<Bullet> cellBullets = bulletGrid.get(key);
-                if (cellBullets != null) {
-                    nearby.addAll(cellBullets);
+    // Destroy every bullet in the Laser Beam item's path (straight up from the player)
+    private void cutLaserPath() {
+        double laserX = player.getX();
+        double halfWidth = 20; // Beam is 40px wide
+        List<Bullet> inBeam = nearbyScratch;
+        inBeam.clear();
+        // The beam as a capsule from the player straight up past the grid margin; its round end is
+        // pulled in by the half width so it stops at the player's nose like the drawn beam
+        bulletGrid.querySegment(laserX, player.getY() - halfWidth, laserX, -HEIGHT, halfWidth, inBeam);
+        for (Bullet bullet : inBeam) {
+            double bulletX = bullet.getX();
+            double bulletY = bullet.getY();
+            bullets.remove(bullet);
+            bulletGrid.remove(bullet);
+            returnBulletToPool(bullet);
+            gameData.addScore(10);
+            
+            // Create destruction particles
+            if (enableParticles) {
+                for (int j = 0; j < 5; j++) {
+                    double angle = Math.random() * TWO_PI;
+                    double speed = 1 + Math.random() * 3;
+                    addParticle(
+                        bulletX, bulletY,
+                        Math.cos(angle) * speed, Math.sin(angle) * speed,
+                        LASER_DEBRIS, 15, 4,
+                        Particle.ParticleType.SPARK
+                    );
                 }
             }
         }
-        return nearby;
     }
     
     @Override
     protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        boolean gameplayFrame = gameState == GameState.PLAYING && !isPaused && renderer != null;
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
@@ -1849,6 +2215,12 @@ public class Game extends JPanel implements Runnable {
         } else {
             drawState(g2d, gameState);
         }
+        
+        // Feed the quality governor with the work behind each gameplay frame: the latest simulation
+        // tick plus this paint (see QualityGovernor.onFrame)
+        if (gameplayFrame) {
+            qualityGovernor.onFrame(lastSimulationNanos + (System.nanoTime() - paintStart), framePacer.getTargetFrameMillis());
+        }
     }
     
     private void drawState(Graphics2D g2d, GameState state) {
@@ -1878,8 +2250,13 @@ public class Game extends JPanel implements Runnable {
             case PLAYING:
                 // Apply screen shake
                 g2d.translate(screenShakeX, screenShakeY);
-                renderer.drawGame(g2d, WIDTH, HEIGHT, player, currentBoss, bullets, particles, beamAttacks, gameData.getCurrentLevel(), gradientTime, bossVulnerable, vulnerabilityTimer, dodgeCombo, comboTimer > 0, bossDeathAnimation, bossDeathScale, bossDeathRotation, gameTimeSeconds, currentFPS, shieldActive, playerInvincible, bossHitCount, cameraX, cameraY, introPanActive, bossFlashTimer, screenFlashTimer, comboSystem, damageNumbers, bossIntroActive, bossIntroText, bossIntroTimer, isPaused, selectedPauseItem, pendingAchievements, achievementNotificationTimer);
+                long renderStart = System.nanoTime();
+                AllocationTracker.beginRender();
+                renderer.drawGame(g2d, WIDTH, HEIGHT, player, currentBoss, bullets, particles, beamAttacks, gameData.getCurrentLevel(), gradientTime, bossVulnerable, vulnerabilityTimer, dodgeCombo, comboTimer > 0, bossDeathAnimation, bossDeathScale, bossDeathRotation, gameTimeSeconds, currentFPS, framePacer.getJitterMillis(), shieldActive, playerInvincible, bossHitCount, prevCameraX + (cameraX - prevCameraX) * renderAlpha, prevCameraY + (cameraY - prevCameraY) * renderAlpha, introPanActive, bossFlashTimer, screenFlashTimer, comboSystem, damageNumbers, bossIntroActive, bossIntroText, bossIntroTimer, isPaused, selectedPauseItem, pendingAchievements, achievementNotificationTimer);
                 g2d.translate(-screenShakeX, -screenShakeY);
+                AllocationTracker.endRender();
+                FrameProfiler.endRenderFrame();
+                GameEvents.frame(lastSimulationNanos, System.nanoTime() - renderStart, bullets.size(), particles.size());
                 break;
             case LOADING:
                 // Draw loading screen directly (renderer not yet created)
@@ -1904,9 +2281,57 @@ public class Game extends JPanel implements Runnable {
         }
     }
     
+    // Headless steady-state run used by AllocationGuard. Plays the given level with the player
+    // kept invincible, drawing every frame into an offscreen image, and returns the average
+    // bytes allocated per frame by {update, render} after the warm-up frames.
+    double[] measureSteadyStateAllocation(int level, int warmupFrames, int measuredFrames) {
+        while (!loadingComplete) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new double[]{-1, -1};
+            }
+        }
+        
+        java.awt.image.BufferedImage frame = new java.awt.image.BufferedImage(WIDTH, HEIGHT, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+        gameData.setCurrentLevel(level);
+        startGame();
+        awaitPendingBackground();
+        introPanActive = false; // Same as pressing SPACE to skip the intro
+        currentBoss.seedRolls(level); // Same moves and attacks on every run
+        
+        long updateBytes = 0;
+        long renderBytes = 0;
+        for (int i = 0; i < warmupFrames + measuredFrames; i++) {
+            if (gameState != GameState.PLAYING || player == null) {
+                startGame();
+                awaitPendingBackground();
+                introPanActive = false;
+                currentBoss.seedRolls(level);
+            }
+            respawnInvincibilityTimer = 60; // Keep the player alive so the boss keeps firing
+            
+            long before = AllocationTracker.currentThreadAllocatedBytes();
+            update(1.0);
+            long afterUpdate = AllocationTracker.currentThreadAllocatedBytes();
+            Graphics2D g2d = frame.createGraphics();
+            drawState(g2d, GameState.PLAYING);
+            g2d.dispose();
+            long afterRender = AllocationTracker.currentThreadAllocatedBytes();
+            
+            if (i >= warmupFrames) {
+                updateBytes += afterUpdate - before;
+                renderBytes += afterRender - afterUpdate;
+            }
+        }
+        return new double[]{updateBytes / (double)measuredFrames, renderBytes / (double)measuredFrames};
+    }
+    
     // Helper method to transition to a new state
     private void transitionToState(GameState newState) {
         if (gameState != newState) {
+            GameEvents.stateTransition(gameState, newState);
             previousState = gameState;
             gameState = newState;
             stateTransitionProgress = 0.0f;
@@ -1924,11 +2349,18 @@ public class Game extends JPanel implements Runnable {
     public void selectNextShopItem() { shopManager.selectNext(); }
     public void purchaseSelectedItem() { 
         int selected = shopManager.getSelectedShopItem();
-        if (selected == 0) startGame();
+        if (selected == 0) startRequested = true;
         else shopManager.purchaseItem(selected);
     }
     
     private void toggleSetting(int settingIndex) {
+        // While Auto is on, put the player's settings back first so the change applies to (and is
+        // kept in) their own choices rather than the governor's stepped-down values; the governor
+        // then starts again from the new baseline
+        if (autoQuality && settingIndex < 10) {
+            qualityGovernor.restoreAll();
+        }
+        
         switch (settingIndex) {
             case 0: // Background Mode
                 backgroundMode = (backgroundMode + 1) % 3;
@@ -1960,27 +2392,48 @@ public class Game extends JPanel implements Runnable {
             case 9: // Vignette
                 enableVignette = !enableVignette;
                 break;
+            case 10: // Quality Preset (Manual/Auto)
+                autoQuality = !autoQuality;
+                if (!autoQuality) {
+                    qualityGovernor.restoreAll();
+                }
+                return;
+            case 11: // Frame Rate Cap
+                int optionIndex = 0;
+                for (int i = 0; i < FramePacer.TARGET_OPTIONS.length; i++) {
+                    if (FramePacer.TARGET_OPTIONS[i] == targetFps) optionIndex = i;
+                }
+                targetFps = FramePacer.TARGET_OPTIONS[(optionIndex + 1) % FramePacer.TARGET_OPTIONS.length];
+                framePacer.setTargetFps(targetFps);
+                return;
         }
     }
     
     private void startAssetLoading() {
         Thread loadingThread = new Thread(() -> {
             try {
-                targetLoadingProgress = 10;
-                repaint();
+                // Map the pre-decoded sprite pack if it has been built (see AssetPackBuilder)
+                AssetPack.openDefault();
                 
-                // Create renderer (this loads backgrounds and overlay)
-                renderer = new Renderer(gameData, shopManager);
-                targetLoadingProgress = 80;
-                repaint();
+                // Decode every asset on a worker pool; the bar follows finished assets
+                AssetLoader loader = new AssetLoader(progress -> {
+                    targetLoadingProgress = (int)(progress * 95);
+                    repaint();
+                });
+                Renderer.queueAssets(loader, gameData.getCurrentLevel());
+                Boss.queueSprites(loader);
+                Bullet.queueSprites(loader);
+                Player.queueSprites(loader);
+                loader.awaitAll();
+                Renderer.finishAssetLoading();
+                Boss.finishSpriteLoading();
+                Bullet.finishSpriteLoading();
+                Player.finishSpriteLoading();
                 
-                // Small delay to ensure everything is ready
-                Thread.sleep(200);
+                // Create renderer (assets are already decoded)
+                renderer = new Renderer(gameData, shopManager, runJournal);
+                warmUpGameplay();
                 targetLoadingProgress = 100;
-                repaint();
-                
-                // Wait a moment then switch to menu
-                Thread.sleep(300);
                 loadingComplete = true;
                 gameState = GameState.MENU;
                 repaint();
@@ -1988,14 +2441,79 @@ public class Game extends JPanel implements Runnable {
             } catch (Exception e) {
                 e.printStackTrace();
                 // On error, still go to menu
+                if (renderer == null) {
+                    renderer = new Renderer(gameData, shopManager, runJournal);
+                }
                 loadingComplete = true;
                 gameState = GameState.MENU;
                 repaint();
             }
-        });
+        }, "AssetLoading");
         loadingThread.start();
     }
     
+    // Run the gameplay update and draw paths on throwaway objects so the JIT compiles them
+    // (and Java2D sets up its sprite loops) behind the loading screen instead of in level 1.
+    // Nothing here touches gameData or the live entity lists.
+    private void warmUpGameplay() {
+        java.awt.image.BufferedImage scratch = new java.awt.image.BufferedImage(256, 256, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = scratch.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        boolean[] noKeys = new boolean[256];
+        List<Bullet> warmBullets = new ArrayList<>();
+        List<Bullet> warmBulletPool = new ArrayList<>();
+        BulletBuckets warmBuckets = new BulletBuckets();
+        SpawnScheduler warmSpawner = new SpawnScheduler(256);
+        List<Particle> warmParticles = new ArrayList<>();
+        Bullet.BulletType[] bulletTypes = Bullet.BulletType.values();
+        Particle.ParticleType[] particleTypes = Particle.ParticleType.values();
+        
+        try {
+            for (int level = 1; level <= WARMUP_BOSS_LEVELS; level++) {
+                Boss boss = new Boss(128, 64, level);
+                Player warmPlayer = new Player(128, 200);
+                warmBullets.clear();
+                warmSpawner.clear();
+                warmParticles.clear();
+                for (int i = 0; i < WARMUP_ITERATIONS / WARMUP_BOSS_LEVELS; i++) {
+                    if (warmBullets.size() < 64) {
+                        Bullet.BulletType type = bulletTypes[i % bulletTypes.length];
+                        warmBullets.add(new Bullet(128, 64, Math.cos(i) * 2, 2, type));
+                    }
+                    if (warmParticles.size() < 64) {
+                        Particle.ParticleType type = particleTypes[i % particleTypes.length];
+                        warmParticles.add(new Particle(128, 128, Math.sin(i), Math.cos(i), Color.ORANGE, 30, 4, type));
+                    }
+                    
+                    warmPlayer.update(noKeys, 256, 256, 1.0);
+                    boss.update(warmSpawner, warmPlayer, 256, 256, 1.0, warmParticles);
+                    warmSpawner.release(warmBullets, warmBulletPool);
+                    warmBuckets.update(warmBullets, 1.0, warmPlayer, 256, 256, 1.0);
+                    warmBullets.removeIf(b -> b.isOffScreen(256, 256));
+                    for (Particle particle : warmParticles) {
+                        particle.update(1.0);
+                    }
+                    warmParticles.removeIf(p -> !p.isAlive());
+                    
+                    boss.draw(g2d);
+                    warmPlayer.draw(g2d);
+                    for (Bullet bullet : warmBullets) {
+                        bullet.draw(g2d);
+                    }
+                    for (Particle particle : warmParticles) {
+                        particle.draw(g2d);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // Warm-up is best effort - the game still works, just with first-use hitches
+            System.err.println("Gameplay warm-up failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            g2d.dispose();
+        }
+    }
+    
     private void drawSimpleLoading(Graphics2D g, int width, int height, int progress) {
         // Smooth interpolation of progress
         double smoothSpeed = 0.15; // Higher = faster interpolation
@@ -2105,7 +2623,7 @@ public class Game extends JPanel implements Runnable {
                             addParticle(
                                 player.getX(), player.getY(),
                                 Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                new Color(163, 190, 140), 30, 8,
+                                SHOCKWAVE_GREEN, 30, 8,
                                 Particle.ParticleType.SPARK
                             );
                         }
@@ -2122,11 +2640,12 @@ public class Game extends JPanel implements Runnable {
                 
             case BOMB:
                 // Clear all bullets (instant effect)
-                int clearedBullets = bullets.size();
+                int clearedBullets = bullets.size() + spawner.getPendingCount();
                 for (Bullet bullet : bullets) {
                     returnBulletToPool(bullet);
                 }
                 bullets.clear();
+                spawner.clear();
                 
                 // Award score for cleared bullets
                 gameData.addScore(clearedBullets * 5);
@@ -2172,39 +2691,7 @@ public class Game extends JPanel implements Runnable {
                 break;
                 
             case LASER_BEAM:
-                // Fire a damaging laser beam upward
-                // Damage bullets in path
-                if (player != null) {
-                    double laserX = player.getX();
-                    double laserWidth = 40;
-                    
-                    for (int i = bullets.size() - 1; i >= 0; i--) {
-                        Bullet bullet = bullets.get(i);
-                        double bulletX = bullet.getX();
-                        double bulletY = bullet.getY();
-                        
-                        // Check if bullet is in laser path
-                        if (Math.abs(bulletX - laserX) < laserWidth / 2 && bulletY < player.getY()) {
-                            bullets.remove(i);
-                            returnBulletToPool(bullet);
-                            gameData.addScore(10);
-                            
-                            // Create destruction particles
-                            if (enableParticles) {
-                                for (int j = 0; j < 5; j++) {
-                                    double angle = Math.random() * TWO_PI;
-                                    double speed = 1 + Math.random() * 3;
-                                    addParticle(
-                                        bulletX, bulletY,
-                                        Math.cos(angle) * speed, Math.sin(angle) * speed,
-                                        new Color(235, 203, 139), 15, 4,
-                                        Particle.ParticleType.SPARK
-                                    );
-                                }
-                            }
-                        }
-                    }
-                }
+                // Bullets in the beam are cut by cutLaserPath once the bullet grid is rebuilt, before collisions
                 break;
                 
             case INVINCIBILITY:
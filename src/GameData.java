@@ -31,6 +31,9 @@ public class GameData {
     private ActiveItem equippedItem;
     private int equippedItemIndex; // Index in unlocked items list
     
+    // Bumped whenever upgrades or the equipped item change, so DerivedStats knows to rebuild
+    private int statsVersion;
+    
     public GameData() {
         score = 0;
         totalMoney = 0;
@@ -85,34 +88,35 @@ public class GameData {
     }
     
     public int getSpeedUpgradeLevel() { return speedUpgradeLevel; }
-    public void setSpeedUpgradeLevel(int level) { this.speedUpgradeLevel = level; }
-    public void incrementSpeedUpgrade() { this.speedUpgradeLevel++; }
+    public void setSpeedUpgradeLevel(int level) { this.speedUpgradeLevel = level; statsVersion++; }
+    public void incrementSpeedUpgrade() { this.speedUpgradeLevel++; statsVersion++; }
     
     public int getBulletSlowUpgradeLevel() { return bulletSlowUpgradeLevel; }
-    public void setBulletSlowUpgradeLevel(int level) { this.bulletSlowUpgradeLevel = level; }
-    public void incrementBulletSlowUpgrade() { this.bulletSlowUpgradeLevel++; }
+    public void setBulletSlowUpgradeLevel(int level) { this.bulletSlowUpgradeLevel = level; statsVersion++; }
+    public void incrementBulletSlowUpgrade() { this.bulletSlowUpgradeLevel++; statsVersion++; }
     
     public int getLuckyDodgeUpgradeLevel() { return luckyDodgeUpgradeLevel; }
-    public void setLuckyDodgeUpgradeLevel(int level) { this.luckyDodgeUpgradeLevel = level; }
-    public void incrementLuckyDodgeUpgrade() { this.luckyDodgeUpgradeLevel++; }
+    public void setLuckyDodgeUpgradeLevel(int level) { this.luckyDodgeUpgradeLevel = level; statsVersion++; }
+    public void incrementLuckyDodgeUpgrade() { this.luckyDodgeUpgradeLevel++; statsVersion++; }
     
     public int getAttackWindowUpgradeLevel() { return attackWindowUpgradeLevel; }
-    public void setAttackWindowUpgradeLevel(int level) { this.attackWindowUpgradeLevel = level; }
-    public void incrementAttackWindowUpgrade() { this.attackWindowUpgradeLevel++; }
+    public void setAttackWindowUpgradeLevel(int level) { this.attackWindowUpgradeLevel = level; statsVersion++; }
+    public void incrementAttackWindowUpgrade() { this.attackWindowUpgradeLevel++; statsVersion++; }
     
     public int getActiveSpeedLevel() { return activeSpeedLevel; }
-    public void setActiveSpeedLevel(int level) { this.activeSpeedLevel = Math.max(0, Math.min(speedUpgradeLevel, level)); }
+    public void setActiveSpeedLevel(int level) { this.activeSpeedLevel = Math.max(0, Math.min(speedUpgradeLevel, level)); statsVersion++; }
     
     public int getActiveBulletSlowLevel() { return activeBulletSlowLevel; }
-    public void setActiveBulletSlowLevel(int level) { this.activeBulletSlowLevel = Math.max(0, Math.min(bulletSlowUpgradeLevel, level)); }
+    public void setActiveBulletSlowLevel(int level) { this.activeBulletSlowLevel = Math.max(0, Math.min(bulletSlowUpgradeLevel, level)); statsVersion++; }
     
     public int getActiveLuckyDodgeLevel() { return activeLuckyDodgeLevel; }
-    public void setActiveLuckyDodgeLevel(int level) { this.activeLuckyDodgeLevel = Math.max(0, Math.min(luckyDodgeUpgradeLevel, level)); }
+    public void setActiveLuckyDodgeLevel(int level) { this.activeLuckyDodgeLevel = Math.max(0, Math.min(luckyDodgeUpgradeLevel, level)); statsVersion++; }
     
     public int getActiveAttackWindowLevel() { return activeAttackWindowLevel; }
-    public void setActiveAttackWindowLevel(int level) { this.activeAttackWindowLevel = Math.max(0, Math.min(attackWindowUpgradeLevel, level)); }
+    public void setActiveAttackWindowLevel(int level) { this.activeAttackWindowLevel = Math.max(0, Math.min(attackWindowUpgradeLevel, level)); statsVersion++; }
     
     public void adjustUpgrade(int upgradeIndex, int delta) {
+        statsVersion++;
         switch (upgradeIndex) {
             case 0: // Speed
                 activeSpeedLevel = Math.max(0, Math.min(speedUpgradeLevel, activeSpeedLevel + delta));
@@ -142,6 +146,7 @@ public class GameData {
     }
     
     public void maxAllUpgrades() {
+        statsVersion++;
         speedUpgradeLevel = 10;
         bulletSlowUpgradeLevel = 10;
         luckyDodgeUpgradeLevel = 10;
@@ -157,6 +162,7 @@ public class GameData {
     }
     
     public void unlockAllItems() {
+        statsVersion++;
         unlockedItems.clear();
         for (ActiveItem.ItemType type : ActiveItem.ItemType.values()) {
             unlockedItems.add(type);
@@ -167,13 +173,25 @@ public class GameData {
     }
     
     public void equipItem(int index) {
+        statsVersion++;
         if (index >= 0 && index < unlockedItems.size()) {
             equippedItemIndex = index;
             equippedItem = new ActiveItem(unlockedItems.get(index));
         }
     }
     
+    // Restore unlocked items from a save; invalid indices leave nothing equipped
+    public void restoreItems(java.util.List<ActiveItem.ItemType> items, int equippedIndex) {
+        statsVersion++;
+        unlockedItems.clear();
+        unlockedItems.addAll(items);
+        equippedItem = null;
+        equippedItemIndex = -1;
+        equipItem(equippedIndex);
+    }
+    
     public void equipNextItem() {
+        statsVersion++;
         if (!unlockedItems.isEmpty()) {
             equippedItemIndex = (equippedItemIndex + 1) % unlockedItems.size();
             equippedItem = new ActiveItem(unlockedItems.get(equippedItemIndex));
@@ -181,6 +199,7 @@ public class GameData {
     }
     
     public void equipPreviousItem() {
+        statsVersion++;
         if (!unlockedItems.isEmpty()) {
             equippedItemIndex--;
             if (equippedItemIndex < 0) equippedItemIndex = unlockedItems.size() - 1;
@@ -192,4 +211,5 @@ public class GameData {
     public java.util.List<ActiveItem.ItemType> getUnlockedItems() { return unlockedItems; }
     public int getEquippedItemIndex() { return equippedItemIndex; }
     public boolean hasActiveItems() { return !unlockedItems.isEmpty(); }
+    public int getStatsVersion() { return statsVersion; }
 }
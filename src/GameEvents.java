@@ -0,0 +1,117 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Custom Java Flight Recorder events so a recording maps directly onto game behavior.
+// Each emit helper checks the event type first, so nothing is allocated unless JFR is recording it.
+public class GameEvents {
+    @Name("onehitman.Frame")
+    @Label("Frame")
+    @Category({"One Hit Man", "Frames"})
+    @Description("One rendered gameplay frame")
+    @StackTrace(false)
+    static class FrameEvent extends Event {
+        @Label("Simulation Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long simulationTime;
+
+        @Label("Render Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long renderTime;
+
+        @Label("Bullets")
+        int bulletCount;
+
+        @Label("Particles")
+        int particleCount;
+    }
+
+    @Name("onehitman.PatternFired")
+    @Label("Boss Pattern Fired")
+    @Category({"One Hit Man", "Spawns"})
+    @StackTrace(false)
+    static class PatternFiredEvent extends Event {
+        @Label("Level")
+        int level;
+
+        @Label("Pattern")
+        String pattern;
+
+        @Label("Bullets Spawned")
+        int spawned;
+    }
+
+    @Name("onehitman.Explosion")
+    @Label("Explosion")
+    @Category({"One Hit Man", "Spawns"})
+    @Description("Explosive bullet detonation and its fragment burst")
+    @StackTrace(false)
+    static class ExplosionEvent extends Event {
+        @Label("Bullet Type")
+        String bulletType;
+
+        @Label("Particles Spawned")
+        int particles;
+
+        @Label("Fragments Spawned")
+        int fragments;
+    }
+
+    @Name("onehitman.StateTransition")
+    @Label("State Transition")
+    @Category({"One Hit Man", "State"})
+    @StackTrace(false)
+    static class StateTransitionEvent extends Event {
+        @Label("From")
+        String from;
+
+        @Label("To")
+        String to;
+    }
+
+    private static final EventType FRAME_TYPE = EventType.getEventType(FrameEvent.class);
+    private static final EventType PATTERN_TYPE = EventType.getEventType(PatternFiredEvent.class);
+    private static final EventType EXPLOSION_TYPE = EventType.getEventType(ExplosionEvent.class);
+    private static final EventType TRANSITION_TYPE = EventType.getEventType(StateTransitionEvent.class);
+
+    public static void frame(long simulationNanos, long renderNanos, int bulletCount, int particleCount) {
+        if (!FRAME_TYPE.isEnabled()) return;
+        FrameEvent event = new FrameEvent();
+        event.simulationTime = simulationNanos;
+        event.renderTime = renderNanos;
+        event.bulletCount = bulletCount;
+        event.particleCount = particleCount;
+        event.commit();
+    }
+
+    public static void patternFired(int level, String pattern, int spawned) {
+        if (!PATTERN_TYPE.isEnabled()) return;
+        PatternFiredEvent event = new PatternFiredEvent();
+        event.level = level;
+        event.pattern = pattern;
+        event.spawned = spawned;
+        event.commit();
+    }
+
+    public static void explosion(Bullet.BulletType type, int particles, int fragments) {
+        if (!EXPLOSION_TYPE.isEnabled()) return;
+        ExplosionEvent event = new ExplosionEvent();
+        event.bulletType = type.name();
+        event.particles = particles;
+        event.fragments = fragments;
+        event.commit();
+    }
+
+    public static void stateTransition(GameState from, GameState to) {
+        if (!TRANSITION_TYPE.isEnabled()) return;
+        StateTransitionEvent event = new StateTransitionEvent();
+        event.from = from == null ? "NONE" : from.name();
+        event.to = to.name();
+        event.commit();
+    }
+}
@@ -0,0 +1,94 @@
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+// Pre-filtered downscaled copies of a high-res sprite, built once at load time.
+// Sprites are drawn far smaller than their source art, and drawImage with a destination size
+// resamples the full image every frame (nearest neighbour, so it also shimmers). Drawing from
+// the nearest level that is at least as big as the destination keeps the per-frame scale under 2x.
+// Levels bigger than the largest size the sprite is ever drawn at are dropped after building.
+public class MipChain {
+    private static final int MIN_LEVEL_SIZE = 4; // Stop halving once the longest side gets this small
+
+    private final BufferedImage[] levels; // Largest first, each half the size of the previous one
+    private final int nativeWidth;
+    private final int nativeHeight;
+
+    private MipChain(BufferedImage[] levels, int nativeWidth, int nativeHeight) {
+        this.levels = levels;
+        this.nativeWidth = nativeWidth;
+        this.nativeHeight = nativeHeight;
+    }
+
+    // maxDrawSize is the longest side, in screen pixels, the sprite is ever drawn at
+    public static MipChain build(BufferedImage source, int maxDrawSize) {
+        BufferedImage current = source;
+        // Halve until the next level would be smaller than the biggest draw; larger levels are never picked
+        while (longestSide(current) / 2 >= maxDrawSize) {
+            current = halve(current);
+        }
+        if (current == source) {
+            current = halve(source, source.getWidth(), source.getHeight()); // Same size, just premultiplied
+        }
+
+        List<BufferedImage> levels = new ArrayList<>();
+        levels.add(current);
+        while (longestSide(current) / 2 >= MIN_LEVEL_SIZE) {
+            current = halve(current);
+            levels.add(current);
+        }
+        return new MipChain(levels.toArray(new BufferedImage[0]), source.getWidth(), source.getHeight());
+    }
+
+    // Smallest level that still covers the destination size (falls back to the largest level)
+    public BufferedImage forSize(int drawWidth, int drawHeight) {
+        for (int i = levels.length - 1; i > 0; i--) {
+            BufferedImage level = levels[i];
+            if (level.getWidth() >= drawWidth && level.getHeight() >= drawHeight) {
+                return level;
+            }
+        }
+        return levels[0];
+    }
+
+    // Dimensions of the source art (callers size their draws proportionally to these)
+    public int getWidth() {
+        return nativeWidth;
+    }
+
+    public int getHeight() {
+        return nativeHeight;
+    }
+
+    // Bytes held by the resident levels
+    public long getResidentBytes() {
+        long bytes = 0;
+        for (BufferedImage level : levels) {
+            bytes += (long)level.getWidth() * level.getHeight() * 4;
+        }
+        return bytes;
+    }
+
+    private static int longestSide(BufferedImage image) {
+        return Math.max(image.getWidth(), image.getHeight());
+    }
+
+    private static BufferedImage halve(BufferedImage image) {
+        return halve(image, Math.max(1, image.getWidth() / 2), Math.max(1, image.getHeight() / 2));
+    }
+
+    // A bilinear 2:1 step averages each 2x2 block; premultiplied alpha keeps edges from darkening
+    private static BufferedImage halve(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = scaled.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+}
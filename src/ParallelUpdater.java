@@ -0,0 +1,70 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+// Splits per-entity integration loops across cores once there are enough entities to pay for it.
+// Only work where every entity's result depends on nothing but itself (moving bullets, fading
+// particles) goes through here; anything that spawns, removes, emits events or draws random
+// numbers stays on the game thread and walks the results in index order afterwards, so a tick
+// produces exactly the same state whether it ran on one thread or many.
+//
+// The worker count defaults to the number of cores; -Donehitman.simThreads=N overrides it
+// (1 keeps everything on the game thread).
+public final class ParallelUpdater {
+    public static final int THRESHOLD = 8192; // Below this, splitting costs more than it saves
+    private static final int CHUNK = 2048; // Entities per task
+
+    public interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private static final ForkJoinPool pool = createPool();
+
+    private static ForkJoinPool createPool() {
+        int threads = Integer.getInteger("onehitman.simThreads", Runtime.getRuntime().availableProcessors());
+        if (threads <= 1) return null;
+        return new ForkJoinPool(threads, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("SimWorker-" + t.getPoolIndex());
+            t.setDaemon(true);
+            return t;
+        }, null, false);
+    }
+
+    // True if a loop over count entities should be split (callers keep a plain loop otherwise,
+    // which also avoids allocating the action)
+    public static boolean shouldSplit(int count) {
+        return pool != null && count >= THRESHOLD;
+    }
+
+    // Run action over [0, count) in chunks on the pool; returns once every chunk is done
+    public static void forEachChunk(int count, RangeAction action) {
+        pool.invoke(new ChunkTask(action, 0, count));
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAction action;
+        private final int from, to;
+
+        ChunkTask(RangeAction action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                action.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(action, from, middle), new ChunkTask(action, middle, to));
+        }
+    }
+
+    private ParallelUpdater() {
+    }
+}
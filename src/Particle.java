@@ -2,6 +2,7 @@ import java.awt.*;
 
 public class Particle {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the tick, for render interpolation
     private double vx, vy;
     private Color color;
     private int lifetime;
@@ -25,8 +26,8 @@ public class Particle {
     }
     
     public Particle(double x, double y, double vx, double vy, Color color, int lifetime, double size, ParticleType type) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
         this.vx = vx;
         this.vy = vy;
         this.color = color;
@@ -38,8 +39,8 @@ public class Particle {
     
     // Reset particle for pooling
     public void reset(double x, double y, double vx, double vy, Color color, int lifetime, double size, ParticleType type) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
         this.vx = vx;
         this.vy = vy;
         this.color = color;
@@ -66,6 +67,8 @@ public class Particle {
     }
     
     public void draw(Graphics2D g) {
+        double x = getRenderX();
+        double y = getRenderY();
         float alpha = Math.max(0, Math.min(1, (float)lifetime / maxLifetime));
         int alphaIndex = (int)(alpha * 100);
         
@@ -105,6 +108,14 @@ public class Particle {
         return lifetime > 0;
     }
     
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    public double getRenderX() { return prevX + (x - prevX) * Game.renderAlpha; }
+    public double getRenderY() { return prevY + (y - prevY) * Game.renderAlpha; }
+    
     public double getX() { return x; }
     public double getY() { return y; }
 }
@@ -40,6 +40,13 @@ public class PassiveUpgrade {
         }
     }
     
+    // Replay purchases from a save so the next level's cost matches too
+    public void restoreLevel(int level) {
+        while (currentLevel < Math.min(level, maxLevel)) {
+            upgrade();
+        }
+    }
+    
     public double getMultiplier() {
         switch (type) {
             case MOVEMENT_SPEED:
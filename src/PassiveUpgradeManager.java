@@ -6,6 +6,7 @@ import java.util.Map;
 public class PassiveUpgradeManager {
     private List<PassiveUpgrade> upgrades;
     private Map<String, PassiveUpgrade> upgradeMap;
+    private int version; // Bumped on every level change, see DerivedStats
     
     public PassiveUpgradeManager() {
         upgrades = new ArrayList<>();
@@ -52,11 +53,25 @@ public class PassiveUpgradeManager {
             int cost = upgrade.getCost();
             gameData.setTotalMoney(gameData.getTotalMoney() - cost);
             upgrade.upgrade();
+            version++;
             return true;
         }
         return false;
     }
     
+    // Restore a purchased level from a save
+    public void restoreLevel(String id, int level) {
+        PassiveUpgrade upgrade = upgradeMap.get(id);
+        if (upgrade != null) {
+            upgrade.restoreLevel(level);
+            version++;
+        }
+    }
+    
+    public int getVersion() {
+        return version;
+    }
+    
     public double getMultiplier(PassiveUpgrade.UpgradeType type) {
         for (PassiveUpgrade upgrade : upgrades) {
             if (upgrade.getType() == type) {
@@ -0,0 +1,170 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every boss attack, as BulletPattern definitions. Bosses cycle through the regular patterns
+// (unlocking more with level) and mega bosses sometimes fire a special one instead. Each
+// definition gets the boss level, so counts and speeds can scale with it; the compiled set for a
+// level is built on first use and shared by every boss after that. Later phases fire the same
+// patterns more often (Boss.update) rather than different ones.
+// To add an attack, add a definition to REGULAR or MEGA - Boss picks them up by index.
+public final class PatternLibrary {
+    private interface Definition {
+        BulletPattern define(int level, double speed);
+    }
+
+    private static final Bullet.BulletType NORMAL = Bullet.BulletType.NORMAL;
+    private static final double QUARTER_PI = Math.PI / 4;
+    private static final double HALF_PI = Math.PI / 2;
+    private static final double TWO_PI = Math.PI * 2;
+
+    // In unlock order (Boss.maxPatterns counts into this list)
+    private static final Definition[] REGULAR = {
+        (level, speed) -> new BulletPattern.Builder("Spiral", speed)
+            .layer(12 + level * 2, 3, NORMAL).spin(0.1)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("Circle", speed)
+            .layer(15 + level * 2, 2.5, NORMAL)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("AtPlayer", speed)
+            .layer(13, 4, NORMAL).aimed().cone(0.2)
+            .build(),
+        (level, speed) -> {
+            int n = 16 + level * 2;
+            return new BulletPattern.Builder("Wave", speed)
+                .layer(n, 0, NORMAL).angles(i -> QUARTER_PI + HALF_PI * i / n).speeds(i -> 2 + Math.sin(i * 0.5) * 1.5)
+                .build();
+        },
+        (level, speed) -> new BulletPattern.Builder("Random", speed)
+            .layer(10 + level * 2, 2, NORMAL).randomAngles(0, TWO_PI).speedJitter(2)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("Fast", speed)
+            .layer(5 + level, 6, Bullet.BulletType.FAST).aimed().randomAngles(-0.25, 0.25)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("Large", speed)
+            .layer(5 + level, 1.5, Bullet.BulletType.LARGE)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("Mixed", speed)
+            .layer(3, 2.5, Bullet.BulletType.HOMING).aimed().cone(0.3)
+            .layer(level >= 3 ? 8 : 0, 3, Bullet.BulletType.BOUNCING) // Bouncing ring from level 3
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("SpiralBullets", speed)
+            .layer(5 + level, 2, Bullet.BulletType.SPIRAL)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("SplittingBullets", speed)
+            .layer(4 + level, 2.5, Bullet.BulletType.SPLITTING)
+            .build(),
+        (level, speed) -> new BulletPattern.Builder("AcceleratingBullets", speed)
+            .layer(5, 1.5, Bullet.BulletType.ACCELERATING).aimed().cone(0.3)
+            .build(),
+        (level, speed) -> {
+            int n = 8 + level;
+            return new BulletPattern.Builder("WaveBullets", speed)
+                .layer(n, 2.5, Bullet.BulletType.WAVE).angles(i -> QUARTER_PI + HALF_PI * i / n)
+                .build();
+        },
+        (level, speed) -> new BulletPattern.Builder("Bombs", speed)
+            .layer(3 + level / 2, 2.0, Bullet.BulletType.BOMB)
+            .build(),
+        (level, speed) -> {
+            int n = 2 + (level >= 5 ? 1 : 0);
+            return new BulletPattern.Builder("Grenades", speed)
+                .layer(n, 2.5, Bullet.BulletType.GRENADE).aimed().angles(i -> (i - n / 2.0) * 0.3)
+                .build();
+        },
+        (level, speed) -> new BulletPattern.Builder("Nukes", speed)
+            .layer(1 + (level >= 4 ? 1 : 0) + (level >= 7 ? 1 : 0), 1.5, Bullet.BulletType.NUKE) // 1-3, they're very powerful
+            .build()
+    };
+
+    // Mega boss specials
+    private static final Definition[] MEGA = {
+        (level, speed) -> {
+            // Dense 60 degree cone of mixed types aimed at the player
+            int n = 15 + level * 2;
+            return new BulletPattern.Builder("MegaBarrage", speed)
+                .layer(n, 2.5, NORMAL).aimed().angles(i -> (i / (double)n - 0.5) * (Math.PI / 3)).speedJitter(2)
+                .typeMix(new Bullet.BulletType[] {Bullet.BulletType.FAST, Bullet.BulletType.HOMING, Bullet.BulletType.ACCELERATING, NORMAL},
+                         new double[] {0.3, 0.2, 0.2, 0.3})
+                .build();
+        },
+        (level, speed) -> new BulletPattern.Builder("MegaSpiral", speed)
+            // Three spiral layers at different speeds, each turning a little faster
+            .layer(8 + level, 2.0, NORMAL).spin(0.15)
+            .layer(12 + level, 3.0, Bullet.BulletType.SPIRAL).spin(0.15 * 1.3)
+            .layer(16 + level, 4.0, Bullet.BulletType.WAVE).spin(0.15 * 1.6)
+            .build(),
+        (level, speed) -> {
+            // Four rotating arms of speeding-up bullets, plus a homing cluster at the player
+            int perArm = 5 + level / 2;
+            return new BulletPattern.Builder("MegaCross", speed)
+                .layer(4 * perArm, 0, NORMAL).spin(0.1)
+                    .angles(i -> HALF_PI * (i / perArm))
+                    .speeds(i -> 2.5 + (i % perArm + 1) * 0.3)
+                    .types(i -> i % perArm % 3 == 0 ? Bullet.BulletType.LARGE : NORMAL)
+                .layer(3 + level / 3, 2.5, Bullet.BulletType.HOMING).aimed().randomAngles(-0.4, 0.4)
+                .build();
+        },
+        (level, speed) -> {
+            // Star burst of splitting and large bullets around a ring of bombs
+            int points = 6 + level / 3;
+            int bombSpacing = 4 + level / 3;
+            return new BulletPattern.Builder("MegaStar", speed)
+                .layer(points * 3, 0, NORMAL)
+                    .angles(i -> TWO_PI * (i / 3) / points + (i % 3 - 2) * 0.08)
+                    .speeds(i -> 2.0 + (i % 3) * 0.5)
+                    .types(i -> i % 3 <= 1 ? Bullet.BulletType.SPLITTING : Bullet.BulletType.LARGE)
+                .layer(3 + level / 4, 1.5, Bullet.BulletType.BOMB).angles(i -> TWO_PI * i / bombSpacing)
+                .build();
+        },
+        (level, speed) -> {
+            // Rotating hexagon of wave bullets, grenades at the player and a ring of accelerators
+            int perSide = 4 + level / 2;
+            int ringSpacing = 10 + level;
+            return new BulletPattern.Builder("MegaHex", speed)
+                .layer(6 * perSide, 0, Bullet.BulletType.WAVE).spin(0.08)
+                    .angles(i -> Math.PI / 3 * (i / perSide) + (i % perSide - perSide / 2.0) * 0.1)
+                    .speeds(i -> 2.5 + Math.sin((i % perSide) * 0.5))
+                .layer(2 + level / 3, 3, Bullet.BulletType.GRENADE).aimed().angles(i -> (i - 1) * 0.4)
+                .layer(6 + level / 2, 1.8, Bullet.BulletType.ACCELERATING).angles(i -> TWO_PI * i / ringSpacing)
+                .build();
+        }
+    };
+
+    private static final Map<Integer, Set> compiled = new ConcurrentHashMap<>();
+
+    // The compiled patterns for a boss level
+    public static Set forLevel(int level) {
+        return compiled.computeIfAbsent(level, PatternLibrary::compile);
+    }
+
+    private static Set compile(int level) {
+        double speed = Math.min(1.0, 0.4 + (level * 0.12)); // Starts at 40%, reaches 100% at level 5
+        BulletPattern[] regular = new BulletPattern[REGULAR.length];
+        for (int i = 0; i < REGULAR.length; i++) {
+            regular[i] = REGULAR[i].define(level, speed);
+        }
+        BulletPattern[] mega = new BulletPattern[MEGA.length];
+        for (int i = 0; i < MEGA.length; i++) {
+            mega[i] = MEGA[i].define(level, speed);
+        }
+        return new Set(regular, mega);
+    }
+
+    public static final class Set {
+        private final BulletPattern[] regular;
+        private final BulletPattern[] mega;
+
+        private Set(BulletPattern[] regular, BulletPattern[] mega) {
+            this.regular = regular;
+            this.mega = mega;
+        }
+
+        public int getRegularCount() { return regular.length; }
+        public BulletPattern getRegular(int index) { return regular[index]; }
+        public int getMegaCount() { return mega.length; }
+        public BulletPattern getMega(int index) { return mega[index]; }
+    }
+
+    private PatternLibrary() {
+    }
+}
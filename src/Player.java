@@ -1,12 +1,10 @@
 import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 public class Player {
     private double x, y;
+    private double prevX, prevY; // Position at the start of the tick, for render interpolation
     private double vx, vy; // Velocity
     private static final int SIZE = 20;
     private static final double MAX_SPEED = 6.0;
@@ -21,16 +19,18 @@ public class Player {
     private static final double SHADOW_DISTANCE = 12; // Shadow distance from sprite
     private static final double SHADOW_SCALE = 1.0; // Shadow is 1:1 scale with sprite
     
-    private static BufferedImage missileSprite;
-    private static BufferedImage missileShadow;
+    private static MipChain missileSprite;
+    private static MipChain missileShadow;
+    private static final int MAX_DRAW_SIZE = SIZE * 2; // Missile is drawn SIZE * 2 tall
+    private static boolean spritesLoaded = false;
     
     public Player(double x, double y) {
         this(x, y, 0);
     }
     
     public Player(double x, double y, int speedUpgradeLevel) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
         this.vx = 0;
         this.vy = 0;
         this.speedMultiplier = 1.0 + (speedUpgradeLevel * 0.15);
@@ -39,26 +39,34 @@ public class Player {
     }
     
     private void loadSprite() {
-        if (missileSprite == null) {
-            String path = "sprites\\Missle Man Assets\\Missles\\Missle Black.png";
-            try {
-                BufferedImage original = ImageIO.read(new File(path));
-                //missileSprite = rotateImage180(original);
-                missileSprite = original;
-            } catch (IOException e) {
-                System.err.println("Could not load missile sprite: " + path);
+        if (spritesLoaded) return;
+        // Normally preloaded by the startup AssetLoader; this only runs if a Player is built before that
+        AssetLoader loader = new AssetLoader(null);
+        queueSprites(loader);
+        loader.awaitAll();
+        finishSpriteLoading();
+    }
+    
+    // Register the missile sprite and shadow with the startup loader
+    public static void queueSprites(AssetLoader loader) {
+        loader.submit("player missile", () -> {
+            String id = "Missle Man Assets/Missles/Missle Black";
+            missileSprite = AssetManager.acquireMipChain(AssetManager.Group.PLAYER, id, MAX_DRAW_SIZE, false);
+            if (missileSprite == null) {
+                System.err.println("Could not load missile sprite: " + id);
             }
-        }
-        if (missileShadow == null) {
-            String path = "sprites\\Missle Man Assets\\Missles\\Missle Black Shadow.png";
-            try {
-                BufferedImage original = ImageIO.read(new File(path));
-                //missileShadow = rotateImage180(original);
-                missileShadow = original;
-            } catch (IOException e) {
-                System.err.println("Could not load missile shadow: " + path);
+        });
+        loader.submit("player missile shadow", () -> {
+            String id = "Missle Man Assets/Missles/Missle Black Shadow";
+            missileShadow = AssetManager.acquireMipChain(AssetManager.Group.PLAYER, id, MAX_DRAW_SIZE, false);
+            if (missileShadow == null) {
+                System.err.println("Could not load missile shadow: " + id);
             }
-        }
+        });
+    }
+    
+    public static void finishSpriteLoading() {
+        spritesLoaded = true;
     }
     
     private BufferedImage rotateImage180(BufferedImage img) {
@@ -136,6 +144,9 @@ public class Player {
     }
     
     public void draw(Graphics2D g) {
+        double x = getRenderX();
+        double y = getRenderY();
+        
         // Apply flicker effect if Lucky Dodge was triggered
         float alpha = 1.0f;
         if (flickerTimer > 0) {
@@ -191,7 +202,7 @@ public class Player {
             g2d.rotate(objectRotation);
             
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.5f));
-            g2d.drawImage(missileShadow, 
+            g2d.drawImage(missileShadow.forSize(shadowWidth, shadowHeight), 
                 (int)(-shadowWidth/2 + shadowOffsetX), 
                 (int)(-shadowHeight/2 + shadowOffsetY), 
                 shadowWidth, shadowHeight, null);
@@ -206,7 +217,7 @@ public class Player {
         
         if (missileSprite != null) {
             // Draw sprite with proportional dimensions
-            g2d.drawImage(missileSprite, -spriteWidth/2, -spriteHeight/2, spriteWidth, spriteHeight, null);
+            g2d.drawImage(missileSprite.forSize(spriteWidth, spriteHeight), -spriteWidth/2, -spriteHeight/2, spriteWidth, spriteHeight, null);
         } else {
             // Fallback: draw simple circle with shadow if sprite not loaded
             g2d.setColor(new Color(0, 0, 0, 100));
@@ -244,6 +255,15 @@ public class Player {
         return flickerTimer > 0;
     }
     
+    // Called by Game at the start of every tick; drawing uses the interpolated position
+    public void savePosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    public double getRenderX() { return prevX + (x - prevX) * Game.renderAlpha; }
+    public double getRenderY() { return prevY + (y - prevY) * Game.renderAlpha; }
+    
     public double getX() { return x; }
     public double getY() { return y; }
     public int getSize() { return SIZE; }
@@ -252,8 +272,17 @@ public class Player {
     
     // Set position (for debug teleport)
     public void setPosition(double x, double y) {
-        this.x = x;
-        this.y = y;
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
+    }
+    
+    // Back to a standing start at the given position (used for instant retry)
+    public void reset(double x, double y) {
+        this.x = this.prevX = x;
+        this.y = this.prevY = y;
+        this.vx = 0;
+        this.vy = 0;
+        this.flickerTimer = 0;
     }
     
     // Apply dash boost (used by DASH active item)
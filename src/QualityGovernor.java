@@ -0,0 +1,213 @@
+import java.util.Arrays;
+
+public class QualityGovernor {
+    // Steps in the order they are given up (most expensive for the least visual value first)
+    private static final int STEP_MOTION_BLUR = 0;
+    private static final int STEP_GRAIN = 1;
+    private static final int STEP_BLOOM = 2;
+    private static final int STEP_GRADIENT_QUALITY = 3;
+    private static final int STEP_VIGNETTE = 4;
+    private static final int STEP_SHADOWS = 5;
+    private static final int STEP_PARTICLES = 6;
+    private static final int STEP_COUNT = 7;
+
+    private static final int WINDOW_SIZE = 120; // ~2 seconds of frames at 60 FPS
+    private static final double PERCENTILE = 0.90;
+    private static final double DOWNGRADE_RATIO = 1.20; // p90 above 120% of budget -> step down
+    private static final double UPGRADE_RATIO = 0.80; // p90 below 80% of budget -> candidate for step up
+    private static final int DOWNGRADE_COOLDOWN = 90; // Frames to wait after any change before stepping down again
+    private static final int UPGRADE_HOLD = 600; // Frames of headroom required before stepping back up (~10s)
+
+    private final double[] frameTimes = new double[WINDOW_SIZE]; // Milliseconds
+    private final double[] sortScratch = new double[WINDOW_SIZE];
+    private int frameIndex;
+    private int frameSamples;
+
+    // Settings as they were before the governor touched them, so stepping up restores the player's choice
+    private final boolean[] savedFlags = new boolean[STEP_COUNT];
+    private int savedGradientQuality;
+    private int stepsApplied; // Number of entries in the step list the governor has walked down
+    private final boolean[] stepChanged = new boolean[STEP_COUNT]; // Whether a step actually switched something off
+
+    private int cooldown;
+    private int headroomFrames;
+    private double lastPercentile;
+
+    public QualityGovernor() {
+        reset();
+    }
+
+    // Called once per rendered gameplay frame with the time spent producing it (the latest
+    // simulation tick plus the paint). The time between paints is no use here: under a frame cap
+    // the pacer stretches it to the budget, so it never shows the headroom needed to step back up.
+    public void onFrame(long workNanos, double targetFrameMs) {
+        double frameMs = workNanos / 1_000_000.0;
+        // Ignore huge stalls (breakpoint, long GC) so they don't poison the window
+        if (frameMs < 250) {
+            frameTimes[frameIndex] = frameMs;
+            frameIndex = (frameIndex + 1) % WINDOW_SIZE;
+            if (frameSamples < WINDOW_SIZE) frameSamples++;
+        }
+
+        if (!Game.autoQuality) return;
+
+        if (cooldown > 0) {
+            cooldown--;
+            return;
+        }
+        if (frameSamples < WINDOW_SIZE / 2) return;
+
+        lastPercentile = percentile(PERCENTILE);
+
+        if (lastPercentile > targetFrameMs * DOWNGRADE_RATIO) {
+            headroomFrames = 0;
+            if (stepDown()) {
+                clearWindow();
+                cooldown = DOWNGRADE_COOLDOWN;
+            }
+        } else if (lastPercentile < targetFrameMs * UPGRADE_RATIO) {
+            headroomFrames++;
+            if (headroomFrames >= UPGRADE_HOLD) {
+                headroomFrames = 0;
+                if (stepUp()) {
+                    clearWindow();
+                    cooldown = DOWNGRADE_COOLDOWN;
+                }
+            }
+        } else {
+            // Inside the hysteresis band - hold the current level
+            headroomFrames = 0;
+        }
+    }
+
+    private synchronized boolean stepDown() {
+        while (stepsApplied < STEP_COUNT) {
+            int step = stepsApplied++;
+            if (applyStep(step)) {
+                stepChanged[step] = true;
+                return true;
+            }
+            stepChanged[step] = false; // Already off - move on to the next cheapest saving
+        }
+        return false;
+    }
+
+    private synchronized boolean stepUp() {
+        while (stepsApplied > 0) {
+            int step = --stepsApplied;
+            if (stepChanged[step]) {
+                restoreStep(step);
+                stepChanged[step] = false;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean applyStep(int step) {
+        switch (step) {
+            case STEP_MOTION_BLUR:
+                savedFlags[step] = Game.enableMotionBlur;
+                Game.enableMotionBlur = false;
+                return savedFlags[step];
+            case STEP_GRAIN:
+                savedFlags[step] = Game.enableGrainEffect;
+                Game.enableGrainEffect = false;
+                return savedFlags[step];
+            case STEP_BLOOM:
+                savedFlags[step] = Game.enableBloom;
+                Game.enableBloom = false;
+                return savedFlags[step];
+            case STEP_GRADIENT_QUALITY:
+                savedGradientQuality = Game.gradientQuality;
+                Game.gradientQuality = 0;
+                return savedGradientQuality > 0;
+            case STEP_VIGNETTE:
+                savedFlags[step] = Game.enableVignette;
+                Game.enableVignette = false;
+                return savedFlags[step];
+            case STEP_SHADOWS:
+                savedFlags[step] = Game.enableShadows;
+                Game.enableShadows = false;
+                return savedFlags[step];
+            case STEP_PARTICLES:
+                savedFlags[step] = Game.enableParticles;
+                Game.enableParticles = false;
+                return savedFlags[step];
+        }
+        return false;
+    }
+
+    private void restoreStep(int step) {
+        switch (step) {
+            case STEP_MOTION_BLUR: Game.enableMotionBlur = savedFlags[step]; break;
+            case STEP_GRAIN: Game.enableGrainEffect = savedFlags[step]; break;
+            case STEP_BLOOM: Game.enableBloom = savedFlags[step]; break;
+            case STEP_GRADIENT_QUALITY: Game.gradientQuality = savedGradientQuality; break;
+            case STEP_VIGNETTE: Game.enableVignette = savedFlags[step]; break;
+            case STEP_SHADOWS: Game.enableShadows = savedFlags[step]; break;
+            case STEP_PARTICLES: Game.enableParticles = savedFlags[step]; break;
+        }
+    }
+
+    // Put back everything the governor switched off (used when Auto is turned off)
+    public synchronized void restoreAll() {
+        while (stepUp()) {
+            // Keep stepping up until every changed setting is restored
+        }
+        stepsApplied = 0;
+        clearWindow();
+        cooldown = 0;
+        headroomFrames = 0;
+    }
+
+    // Start from the current settings with nothing stepped down
+    private void reset() {
+        Arrays.fill(stepChanged, false);
+        stepsApplied = 0;
+        clearWindow();
+        cooldown = 0;
+        headroomFrames = 0;
+        lastPercentile = 0;
+    }
+
+    private void clearWindow() {
+        frameIndex = 0;
+        frameSamples = 0;
+    }
+
+    private double percentile(double p) {
+        System.arraycopy(frameTimes, 0, sortScratch, 0, frameSamples);
+        Arrays.sort(sortScratch, 0, frameSamples);
+        int index = (int)Math.min(frameSamples - 1, Math.round(p * (frameSamples - 1)));
+        return sortScratch[index];
+    }
+
+    // The player's own value of each setting the governor manages - what restoreAll() would put
+    // back. Saves use these (from the game thread) so a slow patch is never stored as the player's choice.
+    public synchronized boolean playerMotionBlur() { return playerFlag(STEP_MOTION_BLUR, Game.enableMotionBlur); }
+    public synchronized boolean playerGrainEffect() { return playerFlag(STEP_GRAIN, Game.enableGrainEffect); }
+    public synchronized boolean playerBloom() { return playerFlag(STEP_BLOOM, Game.enableBloom); }
+    public synchronized boolean playerVignette() { return playerFlag(STEP_VIGNETTE, Game.enableVignette); }
+    public synchronized boolean playerShadows() { return playerFlag(STEP_SHADOWS, Game.enableShadows); }
+    public synchronized boolean playerParticles() { return playerFlag(STEP_PARTICLES, Game.enableParticles); }
+    public synchronized int playerGradientQuality() {
+        return stepChanged[STEP_GRADIENT_QUALITY] ? savedGradientQuality : Game.gradientQuality;
+    }
+
+    private boolean playerFlag(int step, boolean live) {
+        return stepChanged[step] ? savedFlags[step] : live;
+    }
+
+    public int getLevel() {
+        int level = 0;
+        for (int i = 0; i < stepsApplied; i++) {
+            if (stepChanged[i]) level++;
+        }
+        return level;
+    }
+
+    public double getLastPercentile() {
+        return lastPercentile;
+    }
+}
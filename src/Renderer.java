@@ -10,6 +10,7 @@ import javax.imageio.ImageIO;
 public class Renderer {
     private GameData gameData;
     private ShopManager shopManager;
+    private RunJournal runJournal; // Null when run history is unavailable
     
     // Menu buttons
     private UIButton[] menuButtons;
@@ -17,24 +18,105 @@ public class Renderer {
     private UIButton[] statsButtons;
     private UIButton[] settingsButtons;
     
-    // Parallax background layers (14 sets x 6 layers each)
-    private static BufferedImage[][] backgroundLayers = new BufferedImage[14][6];
-    private static boolean backgroundsLoaded = false;
+    // Parallax background layers, streamed per level (only the current and next sets stay decoded)
+    private static final BackgroundCache backgroundCache = new BackgroundCache(BackgroundCache.DEFAULT_BUDGET_BYTES);
+    private static BufferedImage[] startupLayers = null; // Decoded by the startup loader, handed to the cache afterwards
+    private static int startupSet = -1;
     private double[] layerScrollOffsets = new double[6]; // Scroll offset for each layer
     
     // Background overlay
     private static BufferedImage overlayImage = null;
     private static boolean overlayLoaded = false;
     
-    public Renderer(GameData gameData, ShopManager shopManager) {
+    // Reused per-frame snapshot lists (avoid allocating a copy of every list each frame)
+    private final List<BeamAttack> beamSnapshot = new ArrayList<>();
+    private final List<Particle> particleSnapshot = new ArrayList<>();
+    private final List<Bullet> bulletsSnapshot = new ArrayList<>();
+    
+    // Vignette is static for a given screen size, so render it once and blit it
+    private BufferedImage vignetteImage = null;
+    
+    // FPS label, rebuilt only when the shown values change
+    private String fpsLabel = "";
+    private int fpsLabelFps = -1;
+    private long fpsLabelJitterTenths = -1;
+    
+    // Bloom colors and composites (precomputed instead of allocated per glow)
+    private static final Color BLOOM_BOSS = new Color(255, 255, 0);
+    private static final Color BLOOM_PLAYER = new Color(150, 200, 255);
+    private static final Color BLOOM_PARTICLE = new Color(255, 200, 100);
+    private static final AlphaComposite[] BLOOM_BOSS_ALPHA = {null, AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.15f), AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.15f / 2), AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.15f / 3)};
+    private static final AlphaComposite[] BLOOM_PLAYER_ALPHA = {null, AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.1f), AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.1f / 2)};
+    private static final AlphaComposite[] BLOOM_PARTICLE_ALPHA = {null, AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.05f), AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.05f / 2)};
+    private static final int PARTICLE_GLOW_SIZE = 15 + 2 * 8; // Outer glow ring diameter
+
+    // HUD colors, fonts and strokes, created once instead of every frame
+    private static final Color HUD_YELLOW = new Color(235, 203, 139);
+    private static final Color HUD_PANEL = new Color(0, 0, 0, 150);
+    private static final Color HUD_GREEN = new Color(163, 190, 140);
+    private static final Color HUD_TRACK = new Color(60, 60, 60);
+    private static final Color HUD_TEXT = new Color(216, 222, 233);
+    private static final Color HUD_RED = new Color(191, 97, 106);
+    private static final Color HUD_GRAY = new Color(150, 150, 150);
+    private static final Color SKIP_HINT = new Color(255, 255, 255, 180);
+    private static final Color OVERLAY_DIM = new Color(0, 0, 0, 180);
+    private static final Color PAUSE_DIM = new Color(0, 0, 0, 200);
+    private static final Color PROFILER_PANEL = new Color(0, 0, 0, 170);
+    private static final Color NOTIFICATION_PANEL = new Color(46, 52, 64, 230);
+    private static final Color LASER_GLOW = new Color(235, 203, 139, 50);
+    private static final Color LASER_BEAM = new Color(235, 203, 139, 150);
+    private static final Color LASER_CORE = new Color(255, 255, 200, 200);
+    private static final Color SHIELD_GLOW = new Color(136, 192, 208, 50);
+    private static final Color SHIELD_RING = new Color(136, 192, 208, 100);
+    private static final Color INVINCIBLE_GLOW = new Color(235, 203, 139, 80);
+    private static final Color INVINCIBLE_CORE = new Color(255, 255, 200, 120);
+    private static final Color DEATH_TINT = new Color(255, 100, 0);
+    private static final Color BOSS_BAR_SHADOW = new Color(0, 0, 0, 100);
+    private static final Color BOSS_BAR_PANEL = new Color(20, 20, 30, 200);
+    private static final Color MEGA_LABEL = new Color(255, 50, 50);
+    private static final Color MINI_HEALTH = new Color(100, 200, 100);
+    private static final Color MEGA_NAME = new Color(255, 215, 0);
+    private static final Color MEGA_HEALTH_START = new Color(200, 50, 50);
+    private static final Color MEGA_HEALTH_END = new Color(255, 100, 100);
+    private static final Color MINI_HEALTH_START = new Color(50, 150, 50);
+    private static final Color HIT_SEGMENT_SHADE = new Color(0, 0, 0, 120);
+    private static final Color BOSS_BAR_BORDER = new Color(200, 200, 200);
+    private static final Font ARIAL_BOLD_12 = new Font("Arial", Font.BOLD, 12);
+    private static final Font ARIAL_BOLD_14 = new Font("Arial", Font.BOLD, 14);
+    private static final Font ARIAL_BOLD_18 = new Font("Arial", Font.BOLD, 18);
+    private static final Font ARIAL_BOLD_20 = new Font("Arial", Font.BOLD, 20);
+    private static final Font ARIAL_BOLD_24 = new Font("Arial", Font.BOLD, 24);
+    private static final Font ARIAL_BOLD_32 = new Font("Arial", Font.BOLD, 32);
+    private static final Font ARIAL_BOLD_36 = new Font("Arial", Font.BOLD, 36);
+    private static final Font ARIAL_BOLD_48 = new Font("Arial", Font.BOLD, 48);
+    private static final Font ARIAL_BOLD_72 = new Font("Arial", Font.BOLD, 72);
+    private static final Font ARIAL_BOLD_84 = new Font("Arial", Font.BOLD, 84);
+    private static final Font ARIAL_PLAIN_14 = new Font("Arial", Font.PLAIN, 14);
+    private static final Font ARIAL_PLAIN_18 = new Font("Arial", Font.PLAIN, 18);
+    private static final Font MONO_BOLD_12 = new Font("Monospaced", Font.BOLD, 12);
+    private static final Font MONO_PLAIN_12 = new Font("Monospaced", Font.PLAIN, 12);
+    private static final BasicStroke STROKE_2 = new BasicStroke(2);
+    private static final BasicStroke STROKE_3 = new BasicStroke(3);
+    private static final BasicStroke STROKE_4 = new BasicStroke(4f);
+    // Vulnerability countdown ramp: index 0 is red, 255 is yellow, 510 is green
+    private static final Color[] VULNERABLE_RING_RAMP = new Color[511];
+    private static final Color[] VULNERABLE_TEXT_RAMP = new Color[511];
+    static {
+        for (int i = 0; i <= 510; i++) {
+            int red = i <= 255 ? 255 : 510 - i;
+            int green = Math.min(i, 255);
+            VULNERABLE_RING_RAMP[i] = new Color(red, green, 0, 150);
+            VULNERABLE_TEXT_RAMP[i] = new Color(red, green, 0);
+        }
+    }
+    private static BufferedImage particleGlowSprite = null; // Both glow rings baked into one image
+    
+    public Renderer(GameData gameData, ShopManager shopManager, RunJournal runJournal) {
         this.gameData = gameData;
         this.shopManager = shopManager;
+        this.runJournal = runJournal;
         
-        // Load background layers
-        loadBackgroundLayers();
-        
-        // Load overlay image
-        loadOverlay();
+        // Backgrounds and overlay are decoded up front by the startup AssetLoader (see queueAssets)
         
         // Initialize menu buttons (positions will be updated in drawMenu)
         menuButtons = new UIButton[5];
@@ -58,107 +140,59 @@ public class Renderer {
             statsButtons[i] = new UIButton(statNames[i], 0, 0, 840, 70, new Color(59, 66, 82), statColors[i]);
         }
         
-        // Initialize settings buttons (10 options)
-        settingsButtons = new UIButton[10];
-        for (int i = 0; i < 10; i++) {
+        // Initialize settings buttons (12 options)
+        settingsButtons = new UIButton[12];
+        for (int i = 0; i < settingsButtons.length; i++) {
             settingsButtons[i] = new UIButton("", 0, 0, 700, 80, new Color(76, 86, 106), new Color(235, 203, 139));
         }
     }
     
-    private void loadBackgroundLayers() {
-        if (backgroundsLoaded) return;
-        try {
-            int totalLoaded = 0;
-            for (int set = 0; set < 14; set++) {
-                for (int layer = 0; layer < 6; layer++) {
-                    // Try multiple possible paths to handle different working directories
-                    String[] possiblePaths = {
-                        String.format("sprites/Backgrounds/background (%d)/%d.png", set + 1, layer + 1),
-                        String.format("../sprites/Backgrounds/background (%d)/%d.png", set + 1, layer + 1),
-                        String.format("sprites\\Backgrounds\\background (%d)\\%d.png", set + 1, layer + 1),
-                        String.format("..\\sprites\\Backgrounds\\background (%d)\\%d.png", set + 1, layer + 1)
-                    };
-                    
-                    BufferedImage image = null;
-                    String successfulPath = null;
-                    for (String path : possiblePaths) {
-                        File file = new File(path);
-                        if (file.exists()) {
-                            try {
-                                image = ImageIO.read(file);
-                                if (image != null) {
-                                    successfulPath = path;
-                                    totalLoaded++;
-                                    break;
-                                }
-                            } catch (IOException e) {
-                                System.err.println("Could not load background sprite: " + path);
-                            }
-                        }
-                    }
-                    
-                    if (image == null) {
-                        System.err.println("Failed to load background layer " + (layer + 1) + " for set " + (set + 1) + ". Tried paths: " + String.join(", ", possiblePaths));
-                    }
-                    
-                    // Store the image (can be null if layer doesn't exist for this set)
-                    backgroundLayers[set][layer] = image;
-                }
-            }
-            
-            if (totalLoaded > 0) {
-                backgroundsLoaded = true;
-                System.out.println("Parallax backgrounds loaded successfully! (" + totalLoaded + " layers)");
-            } else {
-                System.err.println("No background layers could be loaded!");
-                backgroundsLoaded = false;
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading background layers: " + e.getMessage());
-            e.printStackTrace();
-            backgroundsLoaded = false;
+    // Queue the starting level's background set and the overlay on the startup loader (decoded in parallel).
+    // Other levels' sets are streamed in later through the background cache.
+    public static void queueAssets(AssetLoader loader, int startLevel) {
+        startupSet = BackgroundCache.setForLevel(startLevel);
+        startupLayers = BackgroundCache.queueSet(loader, startupSet);
+        
+        if (!overlayLoaded) {
+            loader.submit("overlay", () -> {
+                overlayImage = AssetManager.acquireImage(AssetManager.Group.UI, "Backgrounds/Overlay");
+            });
         }
     }
     
-    private void loadOverlay() {
-        if (overlayLoaded) return;
-        try {
-            String[] possiblePaths = {
-                "sprites/Backgrounds/Overlay.png",
-                "../sprites/Backgrounds/Overlay.png",
-                "sprites\\Backgrounds\\Overlay.png",
-                "..\\sprites\\Backgrounds\\Overlay.png"
-            };
-            
-            for (String path : possiblePaths) {
-                File file = new File(path);
-                if (file.exists()) {
-                    overlayImage = ImageIO.read(file);
-                    overlayLoaded = true;
-                    System.out.println("Overlay image loaded from: " + path);
-                    return;
-                }
-            }
+    // Called once the loader has finished (after AssetLoader.awaitAll)
+    public static void finishAssetLoading() {
+        if (startupLayers != null) {
+            backgroundCache.put(startupSet, startupLayers);
+            startupLayers = null;
+        }
+        
+        overlayLoaded = overlayImage != null;
+        if (!overlayLoaded) {
             System.out.println("Overlay image not found - will run without overlay");
-        } catch (Exception e) {
-            System.err.println("Error loading overlay: " + e.getMessage());
-            overlayLoaded = false;
         }
     }
     
-    private void drawParallaxBackground(Graphics2D g, int width, int height, int level, double time) {
-        if (!backgroundsLoaded) return;
-        
-        // Select background set based on level (cycle through 16 sets)
-        int bgSet = (level - 1) % 16;
-        
+    // Make sure a level's background is decoded before play starts (blocks if it is not ready yet)
+    public static void prepareBackground(int level) {
+        if (Game.backgroundMode == 0) return;
+        backgroundCache.require(BackgroundCache.setForLevel(level));
+    }
+    
+    // Start decoding a level's background on the low-priority prefetch thread
+    public static void prefetchBackground(int level) {
+        if (Game.backgroundMode == 0) return;
+        backgroundCache.prefetch(BackgroundCache.setForLevel(level));
+    }
+    
+    private void drawParallaxBackground(Graphics2D g, int width, int height, BufferedImage[] layers, double time) {
         // Parallax speeds for each layer (furthest to closest)
         double[] speeds = {0.1, 0.2, 0.35, 0.5, 0.7, 1.0};
         
         // Update scroll offsets for each layer
         for (int i = 0; i < 6; i++) {
             // Get layer image
-            BufferedImage layer = backgroundLayers[bgSet][i];
+            BufferedImage layer = layers[i];
             if (layer == null) continue; // Skip if this layer doesn't exist for this background set
             
             layerScrollOffsets[i] += speeds[i] * 0.5;
@@ -184,17 +218,14 @@ public class Renderer {
         }
     }
     
-    private void drawStaticBackground(Graphics2D g, int width, int height, int level) {
-        // Select background set based on level (cycle through 16 sets)
-        int bgSet = (level - 1) % 16;
-        
+    private void drawStaticBackground(Graphics2D g, int width, int height, BufferedImage[] layers) {
         // Draw only the first layer (closest/most detailed layer)
-        BufferedImage layer = backgroundLayers[bgSet][5]; // Layer 5 is the closest layer
+        BufferedImage layer = layers[5]; // Layer 5 is the closest layer
         if (layer == null) {
             // Try other layers if layer 5 doesn't exist
             for (int i = 5; i >= 0; i--) {
-                if (backgroundLayers[bgSet][i] != null) {
-                    layer = backgroundLayers[bgSet][i];
+                if (layers[i] != null) {
+                    layer = layers[i];
                     break;
                 }
             }
@@ -501,6 +532,28 @@ public class Renderer {
         fm = g.getFontMetrics();
         g.drawString(maxLevel, (width - fm.stringWidth(maxLevel)) / 2, 180);
         
+        // Run history (aggregates are kept up to date by the journal, no records are read here)
+        if (runJournal != null && runJournal.getRunCount() > 0) {
+            RunJournal.LevelStats all = runJournal.getOverallStats();
+            int level = gameData.getCurrentLevel();
+            RunJournal.LevelStats current = runJournal.getLevelStats(level);
+            String history = "Runs: " + all.getRuns() + " (" + all.getClears() + " cleared) | Level " + level + ": " + current.getRuns() + " runs";
+            if (current.hasClear()) {
+                history += String.format(", best clear %.1fs", current.getFastestClearTicks() / 60.0);
+            }
+            if (current.getRuns() > 0) {
+                history += ", best combo " + current.getBestCombo() + ", most grazes " + current.getMostGrazes();
+                RunJournal.Cause topCause = current.getTopDeathCause();
+                if (topCause != null) {
+                    history += ", usually ended by: " + topCause.getLabel();
+                }
+            }
+            g.setColor(new Color(216, 222, 233));
+            g.setFont(new Font("Arial", Font.PLAIN, 16));
+            fm = g.getFontMetrics();
+            g.drawString(history, (width - fm.stringWidth(history)) / 2, 207);
+        }
+        
         // Upgrade allocation section
         g.setColor(Color.WHITE);
         g.setFont(new Font("Arial", Font.BOLD, 32));
@@ -858,18 +911,27 @@ public class Renderer {
         }
     }
     
-    public void drawGame(Graphics2D g, int width, int height, Player player, Boss boss, List<Bullet> bullets, List<Particle> particles, List<BeamAttack> beamAttacks, int level, double time, boolean bossVulnerable, int vulnerabilityTimer, int dodgeCombo, boolean showCombo, boolean bossDeathAnimation, double bossDeathScale, double bossDeathRotation, double gameTime, int fps, boolean shieldActive, boolean playerInvincible, int bossHitCount, double cameraX, double cameraY, boolean introPanActive, int bossFlashTimer, int screenFlashTimer, ComboSystem comboSystem, List<DamageNumber> damageNumbers, boolean bossIntroActive, String bossIntroText, int bossIntroTimer, boolean isPaused, int selectedPauseItem, List<Achievement> pendingAchievements, int achievementNotificationTimer) {
+    public void drawGame(Graphics2D g, int width, int height, Player player, Boss boss, List<Bullet> bullets, List<Particle> particles, List<BeamAttack> beamAttacks, int level, double time, boolean bossVulnerable, int vulnerabilityTimer, int dodgeCombo, boolean showCombo, boolean bossDeathAnimation, double bossDeathScale, double bossDeathRotation, double gameTime, int fps, double frameJitter, boolean shieldActive, boolean playerInvincible, int bossHitCount, double cameraX, double cameraY, boolean introPanActive, int bossFlashTimer, int screenFlashTimer, ComboSystem comboSystem, List<DamageNumber> damageNumbers, boolean bossIntroActive, String bossIntroText, int bossIntroTimer, boolean isPaused, int selectedPauseItem, List<Achievement> pendingAchievements, int achievementNotificationTimer) {
         // Draw background based on mode setting
+        long sectionStart = FrameProfiler.begin();
+        BufferedImage[] layers = null;
+        if (Game.backgroundMode != 0) {
+            int bgSet = BackgroundCache.setForLevel(level);
+            layers = backgroundCache.getIfLoaded(bgSet);
+            if (layers == null) {
+                backgroundCache.prefetch(bgSet); // Gradient until it arrives
+            }
+        }
         if (Game.backgroundMode == 0) {
             // Gradient mode
             Color[] colors = getLevelGradientColors(level);
             drawAnimatedGradient(g, width, height, time, colors);
-        } else if (Game.backgroundMode == 1 && backgroundsLoaded) {
+        } else if (Game.backgroundMode == 1 && layers != null) {
             // Parallax mode
-            drawParallaxBackground(g, width, height, level, time);
-        } else if (Game.backgroundMode == 2 && backgroundsLoaded) {
+            drawParallaxBackground(g, width, height, layers, time);
+        } else if (Game.backgroundMode == 2 && layers != null) {
             // Static image mode (first layer only)
-            drawStaticBackground(g, width, height, level);
+            drawStaticBackground(g, width, height, layers);
         } else {
             // Fallback to gradient if images not loaded
             Color[] colors = getLevelGradientColors(level);
@@ -885,13 +947,15 @@ public class Renderer {
         if (Game.enableChromaticAberration) {
             applyChromaticAberration(g, width, height);
         }
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_BACKGROUND, sectionStart);
         
         // Save the original transform and apply camera offset to all game objects
         AffineTransform originalTransform = g.getTransform();
         g.translate(-cameraX, -cameraY);
         
         // Draw beam attacks (behind everything else) - use snapshot to avoid ConcurrentModificationException
-        java.util.List<BeamAttack> beamSnapshot = new java.util.ArrayList<>(beamAttacks);
+        sectionStart = FrameProfiler.begin();
+        snapshot(beamAttacks, beamSnapshot);
         for (BeamAttack beam : beamSnapshot) {
             if (beam != null) {
                 beam.draw(g, width, height);
@@ -902,33 +966,38 @@ public class Renderer {
         ActiveItem equippedItem = gameData.getEquippedItem();
         if (player != null && equippedItem != null && equippedItem.isActive() && 
             equippedItem.getType() == ActiveItem.ItemType.LASER_BEAM) {
-            double laserX = player.getX();
+            double laserX = player.getRenderX();
             double laserWidth = 40;
             double laserY = 0; // Beam goes to top of screen
-            double laserHeight = player.getY();
+            double laserHeight = player.getRenderY();
             
             // Outer glow
-            g.setColor(new Color(235, 203, 139, 50));
+            g.setColor(LASER_GLOW);
             g.fillRect((int)(laserX - laserWidth), (int)laserY, (int)(laserWidth * 2), (int)laserHeight);
             
             // Inner beam
-            g.setColor(new Color(235, 203, 139, 150));
+            g.setColor(LASER_BEAM);
             g.fillRect((int)(laserX - laserWidth / 2), (int)laserY, (int)laserWidth, (int)laserHeight);
             
             // Core
-            g.setColor(new Color(255, 255, 200, 200));
+            g.setColor(LASER_CORE);
             g.fillRect((int)(laserX - laserWidth / 4), (int)laserY, (int)(laserWidth / 2), (int)laserHeight);
         }
         
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_BEAMS, sectionStart);
+        
         // Draw particles (behind sprites) - use snapshot to avoid ConcurrentModificationException
-        java.util.List<Particle> particleSnapshot = new java.util.ArrayList<>(particles);
+        sectionStart = FrameProfiler.begin();
+        snapshot(particles, particleSnapshot);
         for (Particle particle : particleSnapshot) {
             if (particle != null && particle.isAlive()) {
                 particle.draw(g);
             }
         }
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_PARTICLES, sectionStart);
         
         // Draw player (only if not in death animation)
+        sectionStart = FrameProfiler.begin();
         if (player != null) {
             player.draw(g);
             
@@ -938,16 +1007,16 @@ public class Renderer {
                 int pulseOffset = (int)(Math.sin(time * 0.1) * 3);
                 
                 // Outer shield glow
-                g.setColor(new Color(136, 192, 208, 50));
-                g.fillOval((int)player.getX() - shieldRadius - pulseOffset, 
-                          (int)player.getY() - shieldRadius - pulseOffset, 
+                g.setColor(SHIELD_GLOW);
+                g.fillOval((int)player.getRenderX() - shieldRadius - pulseOffset, 
+                          (int)player.getRenderY() - shieldRadius - pulseOffset, 
                           (shieldRadius + pulseOffset) * 2, (shieldRadius + pulseOffset) * 2);
                 
                 // Inner shield
-                g.setColor(new Color(136, 192, 208, 100));
-                g.setStroke(new BasicStroke(3));
-                g.drawOval((int)player.getX() - shieldRadius, 
-                          (int)player.getY() - shieldRadius, 
+                g.setColor(SHIELD_RING);
+                g.setStroke(STROKE_3);
+                g.drawOval((int)player.getRenderX() - shieldRadius, 
+                          (int)player.getRenderY() - shieldRadius, 
                           shieldRadius * 2, shieldRadius * 2);
             }
             
@@ -957,14 +1026,14 @@ public class Renderer {
                 int pulseSize = (int)(Math.sin(time * 0.15) * 5);
                 
                 // Pulsing gold glow
-                g.setColor(new Color(235, 203, 139, 80));
-                g.fillOval((int)player.getX() - glowRadius - pulseSize, 
-                          (int)player.getY() - glowRadius - pulseSize, 
+                g.setColor(INVINCIBLE_GLOW);
+                g.fillOval((int)player.getRenderX() - glowRadius - pulseSize, 
+                          (int)player.getRenderY() - glowRadius - pulseSize, 
                           (glowRadius + pulseSize) * 2, (glowRadius + pulseSize) * 2);
                 
-                g.setColor(new Color(255, 255, 200, 120));
-                g.fillOval((int)player.getX() - glowRadius / 2, 
-                          (int)player.getY() - glowRadius / 2, 
+                g.setColor(INVINCIBLE_CORE);
+                g.fillOval((int)player.getRenderX() - glowRadius / 2, 
+                          (int)player.getRenderY() - glowRadius / 2, 
                           glowRadius, glowRadius);
             }
         }
@@ -975,19 +1044,19 @@ public class Renderer {
             Graphics2D g2d = (Graphics2D) g.create();
             
             // Apply death animation transformations
-            g2d.translate(boss.getX(), boss.getY());
+            g2d.translate(boss.getRenderX(), boss.getRenderY());
             g2d.rotate(bossDeathRotation);
             g2d.scale(bossDeathScale, bossDeathScale);
-            g2d.translate(-boss.getX(), -boss.getY());
+            g2d.translate(-boss.getRenderX(), -boss.getRenderY());
             
             // Draw boss with transformations
             boss.draw(g2d);
             
             // Add red/orange tint for fire effect
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-            g2d.setColor(new Color(255, 100, 0));
+            g2d.setColor(DEATH_TINT);
             double size = boss.getSize() * bossDeathScale;
-            g2d.fillOval((int)(boss.getX() - size/2), (int)(boss.getY() - size/2), (int)size, (int)size);
+            g2d.fillOval((int)(boss.getRenderX() - size/2), (int)(boss.getRenderY() - size/2), (int)size, (int)size);
             
             g2d.dispose();
         } else {
@@ -1001,7 +1070,7 @@ public class Renderer {
                 g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, flashAlpha));
                 g2d.setColor(Color.WHITE);
                 double size = boss.getSize() * 1.2;
-                g2d.fillOval((int)(boss.getX() - size/2), (int)(boss.getY() - size/2), (int)size, (int)size);
+                g2d.fillOval((int)(boss.getRenderX() - size/2), (int)(boss.getRenderY() - size/2), (int)size, (int)size);
                 g2d.dispose();
             }
             
@@ -1009,38 +1078,34 @@ public class Renderer {
                 // Pulsing ring around boss
                 // Calculate color based on time remaining (green -> yellow -> red)
                 double timeRatio = vulnerabilityTimer / 1200.0; // Normalize to 0-1
-                Color circleColor;
-                if (timeRatio > 0.5) {
-                    // Green to Yellow (first half)
-                    int green = 255;
-                    int red = (int)(255 * (1 - (timeRatio - 0.5) * 2));
-                    circleColor = new Color(red, green, 0, 150);
-                } else {
-                    // Yellow to Red (second half)
-                    int red = 255;
-                    int green = (int)(255 * (timeRatio * 2));
-                    circleColor = new Color(red, green, 0, 150);
-                }
+                Color circleColor = VULNERABLE_RING_RAMP[vulnerabilityRampIndex(timeRatio)];
                 
                 double pulseSize = 120 + Math.sin(time * 10) * 15;
                 g.setColor(circleColor);
-                g.setStroke(new BasicStroke(4f));
-                g.drawOval((int)(boss.getX() - pulseSize/2), (int)(boss.getY() - pulseSize/2), (int)pulseSize, (int)pulseSize);
+                g.setStroke(STROKE_4);
+                g.drawOval((int)(boss.getRenderX() - pulseSize/2), (int)(boss.getRenderY() - pulseSize/2), (int)pulseSize, (int)pulseSize);
             }
         }
         
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_BOSS, sectionStart);
+        
         // Draw bullets (use snapshot to prevent ConcurrentModificationException)
-        List<Bullet> bulletsSnapshot = new ArrayList<>(bullets);
+        sectionStart = FrameProfiler.begin();
+        snapshot(bullets, bulletsSnapshot);
         for (Bullet bullet : bulletsSnapshot) {
             bullet.draw(g);
         }
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_BULLETS, sectionStart);
         
         // Apply bloom/glow effect on bright objects
+        sectionStart = FrameProfiler.begin();
         if (Game.enableBloom) {
             applyBloom(g, player, boss, bullets, particles, bossVulnerable);
         }
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_POST, sectionStart);
         
         // Draw boss health bar at bottom
+        sectionStart = FrameProfiler.begin();
         if (boss != null) {
             int barWidth = 600;
             int barHeight = 40;
@@ -1057,39 +1122,39 @@ public class Renderer {
             String bossType = boss.isMegaBoss() ? "[MEGA BOSS]" : "[MINI BOSS]";
             
             // Background panel with shadow
-            g.setColor(new Color(0, 0, 0, 100));
+            g.setColor(BOSS_BAR_SHADOW);
             g.fillRoundRect(barX + 3, barY + 3, barWidth, barHeight + 45, 15, 15);
-            g.setColor(new Color(20, 20, 30, 200));
+            g.setColor(BOSS_BAR_PANEL);
             g.fillRoundRect(barX, barY, barWidth, barHeight + 45, 15, 15);
             
             // Boss type label
-            g.setFont(new Font("Arial", Font.BOLD, 14));
+            g.setFont(ARIAL_BOLD_14);
             FontMetrics fm = g.getFontMetrics();
-            Color typeColor = boss.isMegaBoss() ? new Color(255, 50, 50) : new Color(100, 200, 100);
+            Color typeColor = boss.isMegaBoss() ? MEGA_LABEL : MINI_HEALTH;
             g.setColor(typeColor);
             g.drawString(bossType, barX + 10, barY + 18);
             
             // Boss name
-            g.setFont(new Font("Arial", Font.BOLD, 18));
+            g.setFont(ARIAL_BOLD_18);
             fm = g.getFontMetrics();
-            g.setColor(boss.isMegaBoss() ? new Color(255, 215, 0) : Color.WHITE);
+            g.setColor(boss.isMegaBoss() ? MEGA_NAME : Color.WHITE);
             g.drawString(bossName, barX + 10, barY + 38);
             
             // Health bar background
-            g.setColor(new Color(60, 60, 60));
+            g.setColor(HUD_TRACK);
             g.fillRoundRect(barX + 10, barY + 45, barWidth - 20, 15, 8, 8);
             
             // Health bar fill (always full - boss has no health system, just vulnerability window)
             GradientPaint healthGradient;
             if (boss.isMegaBoss()) {
                 healthGradient = new GradientPaint(
-                    barX + 10, 0, new Color(200, 50, 50),
-                    barX + barWidth - 10, 0, new Color(255, 100, 100)
+                    barX + 10, 0, MEGA_HEALTH_START,
+                    barX + barWidth - 10, 0, MEGA_HEALTH_END
                 );
             } else {
                 healthGradient = new GradientPaint(
-                    barX + 10, 0, new Color(50, 150, 50),
-                    barX + barWidth - 10, 0, new Color(100, 200, 100)
+                    barX + 10, 0, MINI_HEALTH_START,
+                    barX + barWidth - 10, 0, MINI_HEALTH
                 );
             }
             g.setPaint(healthGradient);
@@ -1097,7 +1162,7 @@ public class Renderer {
             
             // Add hit indicators based on boss type (2 segments for mini, 3 for mega)
             int maxHits = boss.isMegaBoss() ? 3 : 2;
-            g.setColor(new Color(0, 0, 0, 150));
+            g.setColor(HUD_PANEL);
             int segmentWidth = (barWidth - 20) / maxHits;
             for (int i = 1; i < maxHits; i++) {
                 int dividerX = barX + 10 + (segmentWidth * i);
@@ -1105,13 +1170,13 @@ public class Renderer {
             }
             
             // Darken segments that have been hit
-            g.setColor(new Color(0, 0, 0, 120));
+            g.setColor(HIT_SEGMENT_SHADE);
             for (int i = 0; i < bossHitCount && i < maxHits; i++) {
                 g.fillRoundRect(barX + 10 + (segmentWidth * i), barY + 45, segmentWidth, 15, 8, 8);
             }
             
             // Draw hit count text
-            g.setFont(new Font("Arial", Font.BOLD, 12));
+            g.setFont(ARIAL_BOLD_12);
             g.setColor(Color.WHITE);
             String hitText = "Hits: " + bossHitCount + "/" + maxHits;
             g.drawString(hitText, barX + barWidth - 70, barY + 57);
@@ -1120,19 +1185,10 @@ public class Renderer {
             if (bossVulnerable) {
                 // Calculate color based on time remaining (green -> yellow -> red)
                 double timeRatio = vulnerabilityTimer / 1200.0;
-                Color textColor;
-                if (timeRatio > 0.5) {
-                    int green = 255;
-                    int red = (int)(255 * (1 - (timeRatio - 0.5) * 2));
-                    textColor = new Color(red, green, 0);
-                } else {
-                    int red = 255;
-                    int green = (int)(255 * (timeRatio * 2));
-                    textColor = new Color(red, green, 0);
-                }
+                Color textColor = VULNERABLE_TEXT_RAMP[vulnerabilityRampIndex(timeRatio)];
                 
                 g.setColor(textColor);
-                g.setFont(new Font("Arial", Font.BOLD, 14));
+                g.setFont(ARIAL_BOLD_14);
                 String vulnText = "ATTACK NOW!";
                 fm = g.getFontMetrics();
                 int vulnX = barX + barWidth - fm.stringWidth(vulnText) - 15;
@@ -1140,8 +1196,8 @@ public class Renderer {
             }
             
             // Health bar border
-            g.setColor(new Color(200, 200, 200));
-            g.setStroke(new BasicStroke(2));
+            g.setColor(BOSS_BAR_BORDER);
+            g.setStroke(STROKE_2);
             g.drawRoundRect(barX + 10, barY + 45, barWidth - 20, 15, 8, 8);
         }
         
@@ -1149,31 +1205,31 @@ public class Renderer {
         g.setTransform(originalTransform);
         
         // Draw UI with better contrast
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(HUD_PANEL);
         g.fillRoundRect(10, 10, 280, 140, 10, 10);
         
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Arial", Font.BOLD, 24));
+        g.setFont(ARIAL_BOLD_24);
         g.drawString("Level: " + level, 20, 35);
         g.drawString("Score: " + gameData.getScore(), 20, 65);
         g.drawString("Money: $" + (gameData.getTotalMoney() + gameData.getRunMoney()), 20, 95);
         
         // Display timer and FPS
-        g.setFont(new Font("Arial", Font.PLAIN, 18));
+        g.setFont(ARIAL_PLAIN_18);
         int minutes = (int)(gameTime / 60);
         int seconds = (int)(gameTime % 60);
         int milliseconds = (int)((gameTime % 1) * 100);
         String timeStr = String.format("Time: %d:%02d.%02d", minutes, seconds, milliseconds);
         g.drawString(timeStr, 20, 120);
-        g.drawString("FPS: " + fps, 20, 145);
+        g.drawString(getFpsLabel(fps, frameJitter), 20, 145);
         
         // Draw combo counter
         if (showCombo && dodgeCombo > 1) {
-            g.setColor(new Color(0, 0, 0, 150));
+            g.setColor(HUD_PANEL);
             g.fillRoundRect(width - 210, 10, 200, 60, 10, 10);
             
-            g.setColor(new Color(163, 190, 140));
-            g.setFont(new Font("Arial", Font.BOLD, 32));
+            g.setColor(HUD_GREEN);
+            g.setFont(ARIAL_BOLD_32);
             String comboText = "COMBO x" + dodgeCombo;
             FontMetrics comboFm = g.getFontMetrics();
             g.drawString(comboText, width - 205 + (190 - comboFm.stringWidth(comboText)) / 2, 50);
@@ -1186,38 +1242,38 @@ public class Renderer {
             int itemUIY = showCombo && dodgeCombo > 1 ? 80 : 10;
             
             // Background
-            g.setColor(new Color(0, 0, 0, 150));
+            g.setColor(HUD_PANEL);
             g.fillRoundRect(itemUIX, itemUIY, 200, 80, 10, 10);
             
             // Item name
-            g.setFont(new Font("Arial", Font.BOLD, 20));
+            g.setFont(ARIAL_BOLD_20);
             if (equippedItem.canActivate()) {
-                g.setColor(new Color(163, 190, 140)); // Green when ready
+                g.setColor(HUD_GREEN); // Green when ready
             } else if (equippedItem.isActive()) {
-                g.setColor(new Color(235, 203, 139)); // Yellow when active
+                g.setColor(HUD_YELLOW); // Yellow when active
             } else {
-                g.setColor(new Color(150, 150, 150)); // Gray when on cooldown
+                g.setColor(HUD_GRAY); // Gray when on cooldown
             }
             g.drawString(equippedItem.getName(), itemUIX + 10, itemUIY + 25);
             
             // Cooldown bar
-            g.setColor(new Color(60, 60, 60));
+            g.setColor(HUD_TRACK);
             g.fillRect(itemUIX + 10, itemUIY + 35, 180, 15);
             
             if (equippedItem.isActive()) {
                 // Active duration bar (yellow)
                 float activePercent = (float)equippedItem.getActiveTimer() / (float)equippedItem.getActiveDuration();
-                g.setColor(new Color(235, 203, 139));
+                g.setColor(HUD_YELLOW);
                 g.fillRect(itemUIX + 10, itemUIY + 35, (int)(180 * activePercent), 15);
             } else {
                 // Cooldown progress bar (green)
                 float cooldownPercent = equippedItem.getCooldownPercent();
-                g.setColor(new Color(163, 190, 140));
+                g.setColor(HUD_GREEN);
                 g.fillRect(itemUIX + 10, itemUIY + 35, (int)(180 * cooldownPercent), 15);
             }
             
             // Key hint
-            g.setFont(new Font("Arial", Font.PLAIN, 14));
+            g.setFont(ARIAL_PLAIN_14);
             g.setColor(Color.WHITE);
             String keyHint = equippedItem.canActivate() ? "Press [SPACE]" : 
                            equippedItem.isActive() ? "ACTIVE" :
@@ -1227,17 +1283,17 @@ public class Renderer {
         
         // Draw "Press SPACE to skip" text during intro animation
         if (introPanActive) {
-            g.setFont(new Font("Arial", Font.BOLD, 18));
-            g.setColor(new Color(255, 255, 255, 180));
+            g.setFont(ARIAL_BOLD_18);
+            g.setColor(SKIP_HINT);
             String skipText = "Press SPACE to skip";
             FontMetrics fm = g.getFontMetrics();
             int textX = (width - fm.stringWidth(skipText)) / 2;
             int textY = height - 30;
             
             // Draw shadow for better visibility
-            g.setColor(new Color(0, 0, 0, 150));
+            g.setColor(HUD_PANEL);
             g.drawString(skipText, textX + 2, textY + 2);
-            g.setColor(new Color(255, 255, 255, 180));
+            g.setColor(SKIP_HINT);
             g.drawString(skipText, textX, textY);
         }
         
@@ -1247,28 +1303,28 @@ public class Renderer {
             int comboY = 100;
             
             // Combo background
-            g.setColor(new Color(0, 0, 0, 180));
+            g.setColor(OVERLAY_DIM);
             g.fillRoundRect(comboX, comboY, 200, 80, 15, 15);
             
             // Combo number
-            g.setFont(new Font("Arial", Font.BOLD, 48));
-            g.setColor(new Color(235, 203, 139));
+            g.setFont(ARIAL_BOLD_48);
+            g.setColor(HUD_YELLOW);
             String comboText = comboSystem.getCombo() + "x";
             FontMetrics fm = g.getFontMetrics();
             g.drawString(comboText, comboX + (200 - fm.stringWidth(comboText)) / 2, comboY + 45);
             
             // Multiplier
-            g.setFont(new Font("Arial", Font.PLAIN, 14));
-            g.setColor(new Color(216, 222, 233));
+            g.setFont(ARIAL_PLAIN_14);
+            g.setColor(HUD_TEXT);
             String multText = String.format("%.1fx Score", comboSystem.getMultiplier());
             fm = g.getFontMetrics();
             g.drawString(multText, comboX + (200 - fm.stringWidth(multText)) / 2, comboY + 65);
             
             // Timeout bar
             float timeoutProgress = comboSystem.getTimeoutProgress();
-            g.setColor(new Color(60, 60, 60));
+            g.setColor(HUD_TRACK);
             g.fillRect(comboX + 10, comboY + 72, 180, 3);
-            g.setColor(new Color(163, 190, 140));
+            g.setColor(HUD_GREEN);
             g.fillRect(comboX + 10, comboY + 72, (int)(180 * timeoutProgress), 3);
         }
         
@@ -1282,14 +1338,14 @@ public class Renderer {
         // Draw boss intro cinematic
         if (bossIntroActive) {
             // Dark overlay
-            g.setColor(new Color(0, 0, 0, 180));
+            g.setColor(OVERLAY_DIM);
             g.fillRect(0, 0, width, height);
             
             // Boss name/level with fade in
             float introAlpha = Math.max(0.0f, Math.min(1.0f, bossIntroTimer / 30f));
             Graphics2D g2d = (Graphics2D) g.create();
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, introAlpha));
-            g2d.setFont(new Font("Arial", Font.BOLD, 72));
+            g2d.setFont(ARIAL_BOLD_72);
             g2d.setColor(Color.WHITE);
             FontMetrics fm = g2d.getFontMetrics();
             g2d.drawString(bossIntroText, (width - fm.stringWidth(bossIntroText)) / 2, height / 2);
@@ -1299,11 +1355,11 @@ public class Renderer {
         // Draw pause menu
         if (isPaused) {
             // Dark overlay
-            g.setColor(new Color(0, 0, 0, 200));
+            g.setColor(PAUSE_DIM);
             g.fillRect(0, 0, width, height);
             
             // Pause title
-            g.setFont(new Font("Arial", Font.BOLD, 84));
+            g.setFont(ARIAL_BOLD_84);
             g.setColor(Color.WHITE);
             String pauseText = "PAUSED";
             FontMetrics fm = g.getFontMetrics();
@@ -1311,9 +1367,9 @@ public class Renderer {
             
             // Menu options
             String[] options = {"Resume", "Restart", "Main Menu"};
-            g.setFont(new Font("Arial", Font.BOLD, 36));
+            g.setFont(ARIAL_BOLD_36);
             for (int i = 0; i < options.length; i++) {
-                Color color = (i == selectedPauseItem) ? new Color(235, 203, 139) : new Color(216, 222, 233);
+                Color color = (i == selectedPauseItem) ? HUD_YELLOW : HUD_TEXT;
                 g.setColor(color);
                 fm = g.getFontMetrics();
                 g.drawString(options[i], (width - fm.stringWidth(options[i])) / 2, height / 2 + i * 60);
@@ -1332,27 +1388,30 @@ public class Renderer {
             
             // Background
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-            g2d.setColor(new Color(46, 52, 64, 230));
+            g2d.setColor(NOTIFICATION_PANEL);
             g2d.fillRoundRect(notifX, notifY, 400, 100, 15, 15);
             
             // Title
-            g2d.setFont(new Font("Arial", Font.BOLD, 20));
-            g2d.setColor(new Color(235, 203, 139));
+            g2d.setFont(ARIAL_BOLD_20);
+            g2d.setColor(HUD_YELLOW);
             g2d.drawString("Achievement Unlocked!", notifX + 20, notifY + 30);
             
             // Achievement name
-            g2d.setFont(new Font("Arial", Font.BOLD, 24));
-            g2d.setColor(new Color(216, 222, 233));
+            g2d.setFont(ARIAL_BOLD_24);
+            g2d.setColor(HUD_TEXT);
             g2d.drawString(ach.getName(), notifX + 20, notifY + 60);
             
             // Description
-            g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+            g2d.setFont(ARIAL_PLAIN_14);
             g2d.drawString(ach.getDescription(), notifX + 20, notifY + 85);
             
             g2d.dispose();
         }
         
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_HUD, sectionStart);
+        
         // Screen flash effect on player death
+        sectionStart = FrameProfiler.begin();
         if (screenFlashTimer > 0) {
             Graphics2D g2d = (Graphics2D) g.create();
             float flashAlpha = (float)screenFlashTimer / 15.0f * 0.7f; // Fade out over 15 frames
@@ -1366,6 +1425,103 @@ public class Renderer {
         if (Game.enableVignette) {
             applyVignette(g, width, height);
         }
+        FrameProfiler.end(FrameProfiler.Phase.RENDER_POST, sectionStart);
+        
+        // Per-phase timing overlay (F4)
+        if (FrameProfiler.overlayVisible) {
+            drawProfilerOverlay(g, 10, 160);
+        }
+    }
+    
+    // Copy a list the game thread may be mutating into a reusable list without allocating.
+    // A concurrent shrink just ends the copy early; it's redrawn next frame anyway.
+    private static <T> void snapshot(List<T> source, List<T> target) {
+        target.clear();
+        int size = source.size();
+        for (int i = 0; i < size; i++) {
+            T item;
+            try {
+                item = source.get(i);
+            } catch (IndexOutOfBoundsException e) {
+                break;
+            }
+            if (item != null) {
+                target.add(item);
+            }
+        }
+    }
+    
+    // Maps the remaining vulnerability ratio (1 = just opened) onto the ramp tables
+    private static int vulnerabilityRampIndex(double timeRatio) {
+        int index;
+        if (timeRatio > 0.5) {
+            // Green to Yellow (first half)
+            index = 510 - (int)(255 * (1 - (timeRatio - 0.5) * 2));
+        } else {
+            // Yellow to Red (second half)
+            index = (int)(255 * (timeRatio * 2));
+        }
+        return Math.max(0, Math.min(510, index));
+    }
+    
+    private String getFpsLabel(int fps, double frameJitter) {
+        long jitterTenths = Math.round(frameJitter * 10);
+        if (fps != fpsLabelFps || jitterTenths != fpsLabelJitterTenths) {
+            fpsLabelFps = fps;
+            fpsLabelJitterTenths = jitterTenths;
+            fpsLabel = String.format("FPS: %d  (jitter %.1fms)", fps, jitterTenths / 10.0);
+        }
+        return fpsLabel;
+    }
+    
+    private void drawProfilerOverlay(Graphics2D g, int x, int y) {
+        FrameProfiler.Phase[] phases = FrameProfiler.getPhases();
+        AssetManager.Group[] assetGroups = AssetManager.Group.values();
+        String lastDump = FrameProfiler.getLastDump();
+        int rowHeight = 16;
+        int panelHeight = 30 + (phases.length + 2 + 1 + assetGroups.length + (lastDump != null ? 2 : 0)) * rowHeight;
+        
+        g.setColor(PROFILER_PANEL);
+        g.fillRoundRect(x, y, 280, panelHeight, 10, 10);
+        
+        g.setFont(MONO_BOLD_12);
+        g.setColor(HUD_YELLOW);
+        g.drawString(String.format("%-14s %6s %6s", "Phase (ms)", "p50", "p99"), x + 10, y + 18);
+        
+        g.setFont(MONO_PLAIN_12);
+        int rowY = y + 18 + rowHeight;
+        for (FrameProfiler.Phase phase : phases) {
+            double p99 = FrameProfiler.getP99Millis(phase);
+            // Highlight phases that alone eat more than a quarter of a 60 FPS frame
+            g.setColor(p99 > 4.0 ? HUD_RED : HUD_TEXT);
+            g.drawString(String.format("%-14s %6.2f %6.2f", phase.getLabel(), FrameProfiler.getP50Millis(phase), p99), x + 10, rowY);
+            rowY += rowHeight;
+        }
+        
+        // Allocation per frame (game thread update / EDT render)
+        g.setColor(HUD_YELLOW);
+        if (AllocationTracker.isSupported()) {
+            g.drawString(String.format("Alloc upd %7.1f KB", AllocationTracker.getUpdateBytesPerFrame() / 1024.0), x + 10, rowY);
+            g.drawString(String.format("Alloc ren %7.1f KB", AllocationTracker.getRenderBytesPerFrame() / 1024.0), x + 10, rowY + rowHeight);
+        } else {
+            g.drawString("Alloc: unsupported JVM", x + 10, rowY);
+        }
+        
+        // Decoded asset memory by group
+        rowY += rowHeight * 2;
+        g.drawString(String.format("%-14s %9.1f MB", "Assets", AssetManager.getTotalBytes() / (1024.0 * 1024.0)), x + 10, rowY);
+        g.setColor(HUD_TEXT);
+        for (AssetManager.Group group : assetGroups) {
+            rowY += rowHeight;
+            g.drawString(String.format("  %-12s %9.1f MB", group.getLabel(), AssetManager.getGroupBytes(group) / (1024.0 * 1024.0)), x + 10, rowY);
+        }
+        
+        // Where the last F5 dump went
+        if (lastDump != null) {
+            rowY += rowHeight * 2;
+            g.setColor(HUD_YELLOW);
+            g.drawString("Saved " + lastDump, x + 10, rowY);
+        }
     }
     
     public void drawShop(Graphics2D g, int width, int height, double time) {
@@ -1599,7 +1755,7 @@ public class Renderer {
         g.setClip(0, 160, width, height - 220);
         
         // Settings items
-        String[] settingNames = {"Background Mode", "Gradient Animation", "Gradient Quality", "Grain Effect", "Particle Effects", "Shadows", "Bloom/Glow", "Motion Blur", "Chromatic Aberration", "Vignette"};
+        String[] settingNames = {"Background Mode", "Gradient Animation", "Gradient Quality", "Grain Effect", "Particle Effects", "Shadows", "Bloom/Glow", "Motion Blur", "Chromatic Aberration", "Vignette", "Quality Preset", "Frame Rate Cap"};
         String[] settingValues = {
             Game.backgroundMode == 0 ? "Gradient" : Game.backgroundMode == 1 ? "Parallax" : "Static",
             Game.enableGradientAnimation ? "ON" : "OFF",
@@ -1610,7 +1766,9 @@ public class Renderer {
             Game.enableBloom ? "ON" : "OFF",
             Game.enableMotionBlur ? "ON" : "OFF",
             Game.enableChromaticAberration ? "ON" : "OFF",
-            Game.enableVignette ? "ON" : "OFF"
+            Game.enableVignette ? "ON" : "OFF",
+            Game.autoQuality ? "Auto" : "Manual",
+            Game.targetFps == 0 ? "Uncapped" : Game.targetFps + " FPS"
         };
         
         String[] descriptions = {
@@ -1623,7 +1781,9 @@ public class Renderer {
             "Glow effect on bright objects (performance impact)",
             "Blur effect on fast moving objects (performance impact)",
             "Color fringing on screen edges (cinematic effect)",
-            "Darken screen edges (focuses attention on center)"
+            "Darken screen edges (focuses attention on center)",
+            "Auto lowers effects when frame time spikes and restores them when there is headroom",
+            "Match your monitor's refresh rate (60 / 120 / 144) or run uncapped"
         };
         
         int y = 200 - (int)scrollOffset;
@@ -2080,44 +2240,56 @@ public class Renderer {
         // Glow around vulnerable boss
         if (bossVulnerable && boss != null) {
             for (int i = 3; i > 0; i--) {
-                float alpha = 0.15f / i;
-                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                g.setColor(new Color(255, 255, 0));
+                g.setComposite(BLOOM_BOSS_ALPHA[i]);
+                g.setColor(BLOOM_BOSS);
                 double glowSize = boss.getSize() + (i * 25);
-                g.fillOval((int)(boss.getX() - glowSize/2), (int)(boss.getY() - glowSize/2), (int)glowSize, (int)glowSize);
+                g.fillOval((int)(boss.getRenderX() - glowSize/2), (int)(boss.getRenderY() - glowSize/2), (int)glowSize, (int)glowSize);
             }
         }
         
         // Glow around player
         if (player != null) {
             for (int i = 2; i > 0; i--) {
-                float alpha = 0.1f / i;
-                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                g.setColor(new Color(150, 200, 255));
+                g.setComposite(BLOOM_PLAYER_ALPHA[i]);
+                g.setColor(BLOOM_PLAYER);
                 double glowSize = 50 + (i * 15);
-                g.fillOval((int)(player.getX() - glowSize/2), (int)(player.getY() - glowSize/2), (int)glowSize, (int)glowSize);
+                g.fillOval((int)(player.getRenderX() - glowSize/2), (int)(player.getRenderY() - glowSize/2), (int)glowSize, (int)glowSize);
             }
         }
         
         // Glow around bright particles (using only X/Y position)
-        // Create snapshot to avoid ConcurrentModificationException
-        java.util.List<Particle> particleSnapshot = new java.util.ArrayList<>(particles);
+        // Reuses the snapshot taken for the particle pass this frame, and blits a pre-baked
+        // glow sprite instead of two translucent antialiased ovals per particle
+        g.setComposite(originalComposite);
+        BufferedImage glow = getParticleGlowSprite();
+        int halfGlow = PARTICLE_GLOW_SIZE / 2;
         for (Particle p : particleSnapshot) {
-            if (p != null && p.isAlive()) {
-                // Apply glow to all particles with simple distance-based intensity
-                for (int i = 2; i > 0; i--) {
-                    float alpha = 0.05f / i;
-                    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                    g.setColor(new Color(255, 200, 100)); // Orange glow for particles
-                    double glowSize = 15 + (i * 8);
-                    g.fillOval((int)(p.getX() - glowSize/2), (int)(p.getY() - glowSize/2), (int)glowSize, (int)glowSize);
-                }
+            if (p.isAlive()) {
+                g.drawImage(glow, (int)p.getRenderX() - halfGlow, (int)p.getRenderY() - halfGlow, null);
             }
         }
         
         g.setComposite(originalComposite);
     }
     
+    private static BufferedImage getParticleGlowSprite() {
+        if (particleGlowSprite == null) {
+            BufferedImage sprite = new BufferedImage(PARTICLE_GLOW_SIZE, PARTICLE_GLOW_SIZE, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = sprite.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setColor(BLOOM_PARTICLE);
+            double center = PARTICLE_GLOW_SIZE / 2.0;
+            for (int i = 2; i > 0; i--) {
+                g.setComposite(BLOOM_PARTICLE_ALPHA[i]);
+                double glowSize = 15 + (i * 8);
+                g.fill(new java.awt.geom.Ellipse2D.Double(center - glowSize / 2, center - glowSize / 2, glowSize, glowSize));
+            }
+            g.dispose();
+            particleGlowSprite = sprite;
+        }
+        return particleGlowSprite;
+    }
+    
     private void applyMotionBlur(Graphics2D g, Player player) {
         // Motion blur: draw faded trail behind fast-moving player
         double vx = player.getVX();
@@ -2132,8 +2304,8 @@ public class Renderer {
                 float alpha = 0.3f * (1 - i / (float)trailLength);
                 g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
                 
-                double trailX = player.getX() - (vx * i * 0.8);
-                double trailY = player.getY() - (vy * i * 0.8);
+                double trailX = player.getRenderX() - (vx * i * 0.8);
+                double trailY = player.getRenderY() - (vy * i * 0.8);
                 
                 g.setColor(new Color(150, 200, 255));
                 g.fillOval((int)(trailX - 15), (int)(trailY - 15), 30, 30);
@@ -2169,6 +2341,17 @@ public class Renderer {
     
     private void applyVignette(Graphics2D g, int width, int height) {
         // Vignette effect: darken edges to focus attention on center
+        // The gradient never changes, so build it once per screen size and blit it
+        if (vignetteImage == null || vignetteImage.getWidth() != width || vignetteImage.getHeight() != height) {
+            vignetteImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D vg = vignetteImage.createGraphics();
+            renderVignette(vg, width, height);
+            vg.dispose();
+        }
+        g.drawImage(vignetteImage, 0, 0, null);
+    }
+    
+    private void renderVignette(Graphics2D g, int width, int height) {
         Composite originalComposite = g.getComposite();
         
         // Create radial gradient from center
@@ -0,0 +1,232 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+// Append-only record of every run, memory-mapped so appending is a few stores into the page cache.
+// Records are fixed size, so run N lives at a computed offset and the file never needs parsing.
+// The journal is scanned once when opened to build per-level aggregates; after that each append
+// updates them in place, so the stats screen reads totals without touching the records at all.
+//
+// Layout (little endian):
+//   header: int magic, int version, int recordSize, int reserved, long count, long reserved
+//   records: long timestamp, int level, int durationTicks, int grazes, int maxCombo, int money,
+//            byte cause, 3 bytes padding
+// The record is written before the count is bumped, so a crash mid-append loses that run only.
+public class RunJournal {
+    static final int MAGIC = 0x4A52484F; // "OHRJ"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+    private static final int COUNT_OFFSET = 16;
+    private static final int GROW_RECORDS = 4096; // Grow the mapping 128 KB at a time
+
+    // How a run ended
+    public enum Cause {
+        CLEARED("Cleared"),
+        BULLET("Bullet"),
+        BEAM("Laser beam"),
+        BOSS_COLLISION("Rammed the boss"),
+        QUIT("Quit");
+
+        private final String label;
+
+        Cause(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // Running totals for one level (or for all levels); read-only outside the journal
+    public static class LevelStats {
+        private int runs;
+        private int clears;
+        private long totalTicks;
+        private int fastestClearTicks = Integer.MAX_VALUE;
+        private int mostGrazes;
+        private int bestCombo;
+        private long totalMoney;
+        private final int[] causes = new int[Cause.values().length];
+
+        private void add(int durationTicks, int grazes, int maxCombo, int money, Cause cause) {
+            runs++;
+            totalTicks += durationTicks;
+            mostGrazes = Math.max(mostGrazes, grazes);
+            bestCombo = Math.max(bestCombo, maxCombo);
+            totalMoney += money;
+            causes[cause.ordinal()]++;
+            if (cause == Cause.CLEARED) {
+                clears++;
+                fastestClearTicks = Math.min(fastestClearTicks, durationTicks);
+            }
+        }
+
+        public int getRuns() { return runs; }
+        public int getClears() { return clears; }
+        public long getTotalTicks() { return totalTicks; }
+        public int getMostGrazes() { return mostGrazes; }
+        public int getBestCombo() { return bestCombo; }
+        public long getTotalMoney() { return totalMoney; }
+        public int getCauseCount(Cause cause) { return causes[cause.ordinal()]; }
+        public boolean hasClear() { return clears > 0; }
+        public int getFastestClearTicks() { return clears > 0 ? fastestClearTicks : 0; }
+
+        // Most common way runs on this level ended that wasn't a clear (null if none)
+        public Cause getTopDeathCause() {
+            Cause top = null;
+            for (Cause cause : Cause.values()) {
+                if (cause != Cause.CLEARED && causes[cause.ordinal()] > 0
+                        && (top == null || causes[cause.ordinal()] > causes[top.ordinal()])) {
+                    top = cause;
+                }
+            }
+            return top;
+        }
+    }
+
+    private final FileChannel channel;
+    private MappedByteBuffer map;
+    private long count;
+    private final Map<Integer, LevelStats> levels = new HashMap<>();
+    private final LevelStats overall = new LevelStats();
+    private static final LevelStats EMPTY = new LevelStats();
+
+    private RunJournal(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    // Open (or create) the journal in the save directory; returns null if it can't be used,
+    // in which case the game simply doesn't record history
+    public static RunJournal openDefault() {
+        Path path = SaveManager.getSaveDirectory().resolve("runs.journal");
+        try {
+            Files.createDirectories(path.getParent());
+            long start = System.nanoTime();
+            RunJournal journal = open(path);
+            System.out.println(String.format("Run journal: %d runs indexed in %.1fms",
+                journal.count, (System.nanoTime() - start) / 1_000_000.0));
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not open run journal " + path + " - run history disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    static RunJournal open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            RunJournal journal = new RunJournal(channel);
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                journal.remap(GROW_RECORDS);
+                journal.map.putInt(0, MAGIC);
+                journal.map.putInt(4, VERSION);
+                journal.map.putInt(8, RECORD_SIZE);
+                journal.map.putLong(COUNT_OFFSET, 0);
+                return journal;
+            }
+
+            journal.remap(Math.max(GROW_RECORDS, (fileSize - HEADER_SIZE) / RECORD_SIZE));
+            if (journal.map.getInt(0) != MAGIC) {
+                throw new IOException("not a run journal");
+            }
+            if (journal.map.getInt(4) != VERSION || journal.map.getInt(8) != RECORD_SIZE) {
+                throw new IOException("unsupported journal version " + journal.map.getInt(4));
+            }
+            // Never trust the count past what the file actually holds
+            long stored = journal.map.getLong(COUNT_OFFSET);
+            long capacity = (fileSize - HEADER_SIZE) / RECORD_SIZE;
+            journal.count = Math.max(0, Math.min(stored, capacity));
+
+            for (long i = 0; i < journal.count; i++) {
+                int base = offsetOf(i);
+                int causeIndex = journal.map.get(base + 28);
+                Cause cause = causeIndex >= 0 && causeIndex < Cause.values().length ? Cause.values()[causeIndex] : Cause.QUIT;
+                journal.aggregate(journal.map.getInt(base + 8), journal.map.getInt(base + 12), journal.map.getInt(base + 16),
+                                  journal.map.getInt(base + 20), journal.map.getInt(base + 24), cause);
+            }
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Record a finished run
+    public synchronized void append(int level, int durationTicks, int grazes, int maxCombo, int money, Cause cause) {
+        try {
+            if ((long)HEADER_SIZE + (count + 1) * RECORD_SIZE > map.capacity()) {
+                remap(count + GROW_RECORDS);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not grow run journal: " + e.getMessage());
+            return;
+        }
+
+        int base = offsetOf(count);
+        map.putLong(base, System.currentTimeMillis());
+        map.putInt(base + 8, level);
+        map.putInt(base + 12, durationTicks);
+        map.putInt(base + 16, grazes);
+        map.putInt(base + 20, maxCombo);
+        map.putInt(base + 24, money);
+        map.put(base + 28, (byte)cause.ordinal());
+        count++;
+        map.putLong(COUNT_OFFSET, count);
+        aggregate(level, durationTicks, grazes, maxCombo, money, cause);
+    }
+
+    public synchronized long getRunCount() {
+        return count;
+    }
+
+    // Totals for one level (an all-zero instance if it was never played)
+    public synchronized LevelStats getLevelStats(int level) {
+        return levels.getOrDefault(level, EMPTY);
+    }
+
+    public synchronized LevelStats getOverallStats() {
+        return overall;
+    }
+
+    // Level of the run at index (0 = oldest)
+    public synchronized int getLevel(long index) {
+        return map.getInt(offsetOf(index) + 8);
+    }
+
+    public synchronized Cause getCause(long index) {
+        int causeIndex = map.get(offsetOf(index) + 28);
+        return causeIndex >= 0 && causeIndex < Cause.values().length ? Cause.values()[causeIndex] : Cause.QUIT;
+    }
+
+    public synchronized int getDurationTicks(long index) {
+        return map.getInt(offsetOf(index) + 12);
+    }
+
+    private void aggregate(int level, int durationTicks, int grazes, int maxCombo, int money, Cause cause) {
+        levels.computeIfAbsent(level, l -> new LevelStats()).add(durationTicks, grazes, maxCombo, money, cause);
+        overall.add(durationTicks, grazes, maxCombo, money, cause);
+    }
+
+    // Mapping past the end of the file extends it, so growing is just a bigger map
+    private void remap(long records) throws IOException {
+        long size = HEADER_SIZE + records * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("run journal is full");
+        }
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        map.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int offsetOf(long index) {
+        return (int)(HEADER_SIZE + index * RECORD_SIZE);
+    }
+}
@@ -0,0 +1,295 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+// Persists progress (GameData, achievements, passive upgrades) and settings between sessions.
+// A save request serializes a snapshot on the caller's thread (a few hundred bytes, microseconds)
+// and hands it to a background writer; requests that arrive within COALESCE_MILLIS collapse into
+// one write. Files are written to a temp file, forced to disk and atomically moved over the old
+// save, so a crash leaves either the previous save or the new one - never a torn file.
+//
+// Format (big endian): int magic, short version, payload, int CRC32 of everything before it.
+// Ids are written as strings so achievements/upgrades/items can be added or reordered later.
+public class SaveManager {
+    private static final int MAGIC = 0x4F484D53; // "OHMS"
+    private static final short VERSION = 1;
+    private static final long COALESCE_MILLIS = 250;
+
+    private final Path saveFile;
+    private final ScheduledExecutorService writer;
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private byte[] lastWritten; // Guarded by this
+    private volatile boolean readOnly; // Set when the save on disk is from a newer version
+
+    public SaveManager() {
+        this(getSaveDirectory().resolve("save.dat"));
+    }
+
+    public SaveManager(Path saveFile) {
+        this.saveFile = saveFile;
+        this.writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "SaveWriter");
+            t.setDaemon(true);
+            return t;
+        });
+        // Don't lose a save that is still waiting out the coalescing delay when the game quits
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "SaveFlush"));
+    }
+
+    // Where saves and the run journal live (override with -Donehitman.saveDir=...)
+    public static Path getSaveDirectory() {
+        String override = System.getProperty("onehitman.saveDir");
+        return override != null ? Paths.get(override) : Paths.get(System.getProperty("user.home"), ".onehitman");
+    }
+
+    // Snapshot the current progress and write it in the background. Settings come from the quality
+    // governor, which knows the player's own values for anything Auto has stepped down.
+    public void requestSave(GameData gameData, AchievementManager achievements, PassiveUpgradeManager upgrades, QualityGovernor governor) {
+        if (readOnly) return;
+        byte[] snapshot;
+        try {
+            snapshot = serialize(gameData, achievements, upgrades, governor);
+        } catch (IOException e) {
+            // ByteArrayOutputStream doesn't throw; this would be a bug in serialize
+            e.printStackTrace();
+            return;
+        }
+        pending.set(snapshot);
+        if (writeScheduled.compareAndSet(false, true)) {
+            writer.schedule(() -> {
+                writeScheduled.set(false);
+                writePending();
+            }, COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Write anything still pending on the calling thread (used at shutdown)
+    public void flush() {
+        writePending();
+    }
+
+    // Restore a previous save into freshly constructed objects; returns false if there was none
+    public boolean load(GameData gameData, AchievementManager achievements, PassiveUpgradeManager upgrades) {
+        if (!Files.isRegularFile(saveFile)) return false;
+        try {
+            byte[] data = Files.readAllBytes(saveFile);
+            if (data.length < 10) {
+                throw new IOException("save file is truncated");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, data.length - 4);
+            if ((int)crc.getValue() != ByteBuffer.wrap(data, data.length - 4, 4).getInt()) {
+                throw new IOException("save file checksum mismatch");
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 4));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("not a save file");
+            }
+            short version = in.readShort();
+            if (version > VERSION) {
+                // Written by a newer build - leave it alone rather than overwrite it with less data
+                System.err.println("Save file " + saveFile + " is from a newer version (" + version + "); progress will not be saved");
+                readOnly = true;
+                return false;
+            }
+            readPayload(in, gameData, achievements, upgrades);
+            synchronized (this) {
+                lastWritten = Arrays.copyOf(data, data.length - 4);
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // Keep the unreadable file around for inspection and start fresh
+            System.err.println("Could not load save " + saveFile + ": " + e.getMessage());
+            try {
+                Files.move(saveFile, saveFile.resolveSibling(saveFile.getFileName() + ".bad"), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException moveError) {
+                System.err.println("Could not set aside bad save: " + moveError.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private synchronized void writePending() {
+        byte[] snapshot = pending.getAndSet(null);
+        if (snapshot == null || Arrays.equals(snapshot, lastWritten)) return;
+
+        CRC32 crc = new CRC32();
+        crc.update(snapshot);
+        ByteBuffer buffer = ByteBuffer.allocate(snapshot.length + 4);
+        buffer.put(snapshot).putInt((int)crc.getValue()).flip();
+
+        Path temp = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(saveFile.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true); // Data must be on disk before the rename makes it the save
+            }
+            try {
+                Files.move(temp, saveFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, saveFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            lastWritten = snapshot;
+        } catch (IOException e) {
+            System.err.println("Could not write save " + saveFile + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static byte[] serialize(GameData gameData, AchievementManager achievements, PassiveUpgradeManager upgrades, QualityGovernor governor) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        // Progress
+        out.writeInt(gameData.getTotalMoney());
+        out.writeShort(gameData.getCurrentLevel());
+        out.writeShort(gameData.getMaxUnlockedLevel());
+        boolean[] defeated = gameData.getDefeatedBosses();
+        out.writeShort(defeated.length);
+        for (int i = 0; i < defeated.length; i += 8) {
+            int packed = 0;
+            for (int bit = 0; bit < 8 && i + bit < defeated.length; bit++) {
+                if (defeated[i + bit]) packed |= 1 << bit;
+            }
+            out.writeByte(packed);
+        }
+
+        // Upgrades (purchased, then allocated)
+        out.writeByte(gameData.getSpeedUpgradeLevel());
+        out.writeByte(gameData.getBulletSlowUpgradeLevel());
+        out.writeByte(gameData.getLuckyDodgeUpgradeLevel());
+        out.writeByte(gameData.getAttackWindowUpgradeLevel());
+        out.writeByte(gameData.getActiveSpeedLevel());
+        out.writeByte(gameData.getActiveBulletSlowLevel());
+        out.writeByte(gameData.getActiveLuckyDodgeLevel());
+        out.writeByte(gameData.getActiveAttackWindowLevel());
+
+        // Active items
+        List<ActiveItem.ItemType> items = gameData.getUnlockedItems();
+        out.writeByte(items.size());
+        for (ActiveItem.ItemType item : items) {
+            out.writeUTF(item.name());
+        }
+        out.writeByte(gameData.getEquippedItemIndex());
+
+        // Achievements
+        List<Achievement> allAchievements = achievements.getAllAchievements();
+        out.writeShort(allAchievements.size());
+        for (Achievement achievement : allAchievements) {
+            out.writeUTF(achievement.getId());
+            out.writeInt(achievement.getProgress());
+            out.writeBoolean(achievement.isUnlocked());
+        }
+
+        // Passive upgrades
+        List<PassiveUpgrade> allUpgrades = upgrades.getAllUpgrades();
+        out.writeShort(allUpgrades.size());
+        for (PassiveUpgrade upgrade : allUpgrades) {
+            out.writeUTF(upgrade.getId());
+            out.writeByte(upgrade.getCurrentLevel());
+        }
+
+        // Settings (the player's choices, not whatever Auto quality has stepped down to right now)
+        out.writeBoolean(Game.enableGradientAnimation);
+        out.writeBoolean(governor.playerGrainEffect());
+        out.writeBoolean(governor.playerParticles());
+        out.writeBoolean(governor.playerShadows());
+        out.writeBoolean(governor.playerBloom());
+        out.writeBoolean(governor.playerMotionBlur());
+        out.writeBoolean(Game.enableChromaticAberration);
+        out.writeBoolean(governor.playerVignette());
+        out.writeByte(governor.playerGradientQuality());
+        out.writeByte(Game.backgroundMode);
+        out.writeBoolean(Game.autoQuality);
+        out.writeShort(Game.targetFps);
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static void readPayload(DataInputStream in, GameData gameData, AchievementManager achievements, PassiveUpgradeManager upgrades) throws IOException {
+        gameData.setTotalMoney(in.readInt());
+        gameData.setCurrentLevel(in.readShort());
+        gameData.setMaxUnlockedLevel(in.readShort());
+        int defeatedCount = in.readShort();
+        for (int i = 0; i < defeatedCount; i += 8) {
+            int packed = in.readUnsignedByte();
+            for (int bit = 0; bit < 8 && i + bit < defeatedCount; bit++) {
+                gameData.setBossDefeated(i + bit, (packed & (1 << bit)) != 0);
+            }
+        }
+
+        gameData.setSpeedUpgradeLevel(in.readByte());
+        gameData.setBulletSlowUpgradeLevel(in.readByte());
+        gameData.setLuckyDodgeUpgradeLevel(in.readByte());
+        gameData.setAttackWindowUpgradeLevel(in.readByte());
+        gameData.setActiveSpeedLevel(in.readByte());
+        gameData.setActiveBulletSlowLevel(in.readByte());
+        gameData.setActiveLuckyDodgeLevel(in.readByte());
+        gameData.setActiveAttackWindowLevel(in.readByte());
+
+        int itemCount = in.readUnsignedByte();
+        List<ActiveItem.ItemType> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            String name = in.readUTF();
+            try {
+                items.add(ActiveItem.ItemType.valueOf(name));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Ignoring unknown item in save: " + name);
+            }
+        }
+        gameData.restoreItems(items, in.readByte());
+
+        int achievementCount = in.readShort();
+        for (int i = 0; i < achievementCount; i++) {
+            String id = in.readUTF();
+            int progress = in.readInt();
+            achievements.restore(id, progress, in.readBoolean());
+        }
+
+        int upgradeCount = in.readShort();
+        for (int i = 0; i < upgradeCount; i++) {
+            String id = in.readUTF();
+            upgrades.restoreLevel(id, in.readByte());
+        }
+
+        Game.enableGradientAnimation = in.readBoolean();
+        Game.enableGrainEffect = in.readBoolean();
+        Game.enableParticles = in.readBoolean();
+        Game.enableShadows = in.readBoolean();
+        Game.enableBloom = in.readBoolean();
+        Game.enableMotionBlur = in.readBoolean();
+        Game.enableChromaticAberration = in.readBoolean();
+        Game.enableVignette = in.readBoolean();
+        Game.gradientQuality = in.readByte();
+        Game.backgroundMode = in.readByte();
+        Game.autoQuality = in.readBoolean();
+        Game.targetFps = in.readShort();
+    }
+}
@@ -0,0 +1,114 @@
+import java.util.List;
+
+// Spreads large bullet bursts over several ticks. Boss patterns and explosions queue their bullets
+// here as plain records instead of building them on the spot; Game.update releases at most
+// BUDGET_PER_TICK of them per tick into pooled Bullet objects. A MegaStar or a chain of nuke
+// fragments therefore costs a few ticks of small spawns instead of one tick of 60+.
+//
+// Every bullet starts with a long warning phase where it neither moves nor collides, so a release
+// that lands a few ticks late is invisible: the late ticks are taken off the bullet's warning time
+// and it activates on exactly the tick it would have if it had spawned immediately.
+public class SpawnScheduler {
+    public static final int BUDGET_PER_TICK = 24;
+
+    // Pending spawns in a ring of parallel arrays (nothing allocated per spawn)
+    private double[] xs, ys, vxs, vys;
+    private Bullet.BulletType[] types;
+    private int[] variants; // Sprite variant, or -1 for a random one
+    private int[] dueTicks; // Tick of the first release that could have spawned it
+    private int head;
+    private int size;
+    private int tick;
+    private int peakBacklog; // Largest queue seen, for tuning the budget
+
+    public SpawnScheduler(int capacity) {
+        int ringSize = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1; // Power of two for cheap wrapping
+        allocate(ringSize);
+    }
+
+    public void spawn(double x, double y, double vx, double vy, Bullet.BulletType type) {
+        spawn(x, y, vx, vy, type, -1);
+    }
+
+    public void spawn(double x, double y, double vx, double vy, Bullet.BulletType type, int variant) {
+        if (size == xs.length) {
+            grow();
+        }
+        int slot = (head + size) & (xs.length - 1);
+        xs[slot] = x;
+        ys[slot] = y;
+        vxs[slot] = vx;
+        vys[slot] = vy;
+        types[slot] = type;
+        variants[slot] = variant;
+        dueTicks[slot] = tick;
+        size++;
+        peakBacklog = Math.max(peakBacklog, size);
+    }
+
+    // Move up to BUDGET_PER_TICK queued spawns into bullets, reusing objects from pool. Call once per tick.
+    public void release(List<Bullet> bullets, List<Bullet> pool) {
+        int count = Math.min(size, BUDGET_PER_TICK);
+        for (int i = 0; i < count; i++) {
+            int slot = head;
+            Bullet bullet = pool.isEmpty() ? new Bullet(0, 0, 0, 0) : pool.remove(pool.size() - 1);
+            bullet.reset(xs[slot], ys[slot], vxs[slot], vys[slot], types[slot]);
+            if (variants[slot] >= 0) {
+                bullet.setSpriteVariant(variants[slot]);
+            }
+            bullet.skipWarning(tick - dueTicks[slot]);
+            types[slot] = null;
+            bullets.add(bullet);
+            head = (head + 1) & (xs.length - 1);
+            size--;
+        }
+        tick++;
+    }
+
+    // Queued spawns not released yet
+    public int getPendingCount() {
+        return size;
+    }
+
+    public int getPeakBacklog() {
+        return peakBacklog;
+    }
+
+    // Drop everything queued (new run, or the screen was cleared)
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            types[(head + i) & (xs.length - 1)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    private void allocate(int ringSize) {
+        xs = new double[ringSize];
+        ys = new double[ringSize];
+        vxs = new double[ringSize];
+        vys = new double[ringSize];
+        types = new Bullet.BulletType[ringSize];
+        variants = new int[ringSize];
+        dueTicks = new int[ringSize];
+    }
+
+    private void grow() {
+        double[] oldXs = xs, oldYs = ys, oldVxs = vxs, oldVys = vys;
+        Bullet.BulletType[] oldTypes = types;
+        int[] oldVariants = variants, oldDueTicks = dueTicks;
+        int mask = oldXs.length - 1;
+        allocate(oldXs.length * 2);
+        for (int i = 0; i < size; i++) {
+            int from = (head + i) & mask;
+            xs[i] = oldXs[from];
+            ys[i] = oldYs[from];
+            vxs[i] = oldVxs[from];
+            vys[i] = oldVys[from];
+            types[i] = oldTypes[from];
+            variants[i] = oldVariants[from];
+            dueTicks[i] = oldDueTicks[from];
+        }
+        head = 0;
+    }
+}